@@ -0,0 +1,160 @@
+package com.barinventory.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.barinventory.LiquorInventoryApplication;
+import com.barinventory.entity.Bar;
+import com.barinventory.entity.BarProductPrice;
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.Product;
+import com.barinventory.entity.StockroomInventory;
+import com.barinventory.entity.WellInventory;
+import com.barinventory.enums.SessionStatus;
+import com.barinventory.repository.BarProductPriceRepository;
+import com.barinventory.repository.BarRepository;
+import com.barinventory.repository.InventorySessionRepository;
+import com.barinventory.repository.ProductRepository;
+import com.barinventory.service.InventorySessionService;
+
+/**
+ * Boots the application (no web layer) against embedded H2 and seeds one bar
+ * with a priced catalog of the requested size.
+ *
+ * Every product moves the same quantities through the pipeline: the stockroom
+ * transfers 60 units, split evenly across the wells, and each well consumes 15
+ * units per 60 received so sessions always reconcile and commit.
+ */
+final class BenchmarkFixture implements AutoCloseable {
+
+    static final FixedDecimal TRANSFERRED = FixedDecimal.of(60);
+
+    private final ConfigurableApplicationContext context;
+    private final InventorySessionService sessionService;
+    private final InventorySessionRepository sessionRepository;
+    private final Long barId;
+    private final List<Long> productIds;
+
+    private BenchmarkFixture(ConfigurableApplicationContext context, Long barId, List<Long> productIds) {
+        this.context = context;
+        this.sessionService = context.getBean(InventorySessionService.class);
+        this.sessionRepository = context.getBean(InventorySessionRepository.class);
+        this.barId = barId;
+        this.productIds = productIds;
+    }
+
+    static BenchmarkFixture start(int productCount) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LiquorInventoryApplication.class)
+            .profiles("bench")
+            .run();
+
+        Bar bar = context.getBean(BarRepository.class).save(Bar.builder()
+            .barName("Benchmark Bar")
+            .location("H2")
+            .active(true)
+            .build());
+
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.builder()
+                .productName("Product " + i)
+                .category("Whisky")
+                .brand("Brand " + (i % 20))
+                .volumeML(new BigDecimal("750"))
+                .unit("BOTTLE")
+                .active(true)
+                .build());
+        }
+        products = context.getBean(ProductRepository.class).saveAll(products);
+
+        List<BarProductPrice> prices = new ArrayList<>(productCount);
+        for (Product product : products) {
+            prices.add(BarProductPrice.builder()
+                .bar(bar)
+                .product(product)
+                .sellingPrice(FixedDecimal.of(250))
+                .costPrice(FixedDecimal.of(120))
+                .active(true)
+                .build());
+        }
+        context.getBean(BarProductPriceRepository.class).saveAll(prices);
+
+        return new BenchmarkFixture(context, bar.getBarId(),
+            products.stream().map(Product::getProductId).toList());
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    InventorySessionService sessions() {
+        return sessionService;
+    }
+
+    Long barId() {
+        return barId;
+    }
+
+    int productCount() {
+        return productIds.size();
+    }
+
+    /**
+     * Roll back any open session so initializeSession creates a new one
+     */
+    void closeOpenSession() {
+        sessionRepository.findFirstByBarBarIdAndStatusOrderBySessionStartTimeDesc(barId, SessionStatus.IN_PROGRESS)
+            .ifPresent(open -> sessionService.rollbackSession(open.getSessionId(), "benchmark reset"));
+    }
+
+    Long newSession() {
+        closeOpenSession();
+        InventorySession session = sessionService.initializeSession(barId, "NIGHT", "benchmark", false);
+        return session.getSessionId();
+    }
+
+    List<StockroomInventory> stockroomRows() {
+        List<StockroomInventory> rows = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            rows.add(StockroomInventory.builder()
+                .product(productRef(productId))
+                .openingStock(FixedDecimal.of(100))
+                .receivedStock(FixedDecimal.of(20))
+                .closingStock(FixedDecimal.of(60))
+                .build());
+        }
+        return rows;
+    }
+
+    List<WellInventory> wellRows(int wellCount) {
+        FixedDecimal received = FixedDecimal.ofUnits(TRANSFERRED.units() / wellCount);
+        List<WellInventory> rows = new ArrayList<>(productIds.size() * wellCount);
+        for (Long productId : productIds) {
+            for (int well = 1; well <= wellCount; well++) {
+                rows.add(WellInventory.builder()
+                    .product(productRef(productId))
+                    .wellName("BAR_" + well)
+                    .openingStock(FixedDecimal.of(10))
+                    .receivedFromDistribution(received)
+                    .closingStock(received.times(FixedDecimal.parse("0.75")).plus(FixedDecimal.of(10)))
+                    .build());
+            }
+        }
+        return rows;
+    }
+
+    private Product productRef(Long productId) {
+        return Product.builder().productId(productId).build();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.barinventory.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * One booted application and seeded catalog per benchmark trial
+ */
+@State(Scope.Benchmark)
+public class PipelineState {
+
+    @Param({"50", "500", "5000"})
+    public int productCount;
+
+    @Param({"1", "3"})
+    public int wellCount;
+
+    BenchmarkFixture fixture;
+
+    @Setup(Level.Trial)
+    public void start() {
+        fixture = BenchmarkFixture.start(productCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        fixture.close();
+    }
+}
@@ -0,0 +1,131 @@
+package com.barinventory.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.SalesRecord;
+
+/**
+ * Summing and deriving sales totals over 1M rows held as BigDecimal against
+ * the same rows held as FixedDecimal. No database involved; run with
+ * -prof gc to see the allocation difference per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SalesAggregationBenchmark {
+
+    /**
+     * Sales row as stored before the fixed-point change
+     */
+    static final class DecimalSalesRow {
+        final BigDecimal quantitySold;
+        final BigDecimal sellingPricePerUnit;
+        final BigDecimal costPricePerUnit;
+        BigDecimal totalRevenue;
+        BigDecimal totalCost;
+        BigDecimal profit;
+
+        DecimalSalesRow(BigDecimal quantitySold, BigDecimal sellingPricePerUnit, BigDecimal costPricePerUnit) {
+            this.quantitySold = quantitySold;
+            this.sellingPricePerUnit = sellingPricePerUnit;
+            this.costPricePerUnit = costPricePerUnit;
+        }
+
+        void calculateTotals() {
+            totalRevenue = quantitySold.multiply(sellingPricePerUnit);
+            totalCost = quantitySold.multiply(costPricePerUnit);
+            profit = totalRevenue.subtract(totalCost);
+        }
+    }
+
+    @Param("1000000")
+    public int rows;
+
+    private List<DecimalSalesRow> decimalRows;
+    private List<SalesRecord> fixedRows;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(42);
+        decimalRows = new ArrayList<>(rows);
+        fixedRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long quantity = random.nextLong(25, 5_001);
+            long selling = random.nextLong(10_000, 250_001);
+            long cost = selling * 2 / 5;
+
+            DecimalSalesRow decimalRow = new DecimalSalesRow(BigDecimal.valueOf(quantity, 2),
+                BigDecimal.valueOf(selling, 2), BigDecimal.valueOf(cost, 2));
+            decimalRow.calculateTotals();
+            decimalRows.add(decimalRow);
+
+            SalesRecord fixedRow = SalesRecord.builder()
+                .quantitySold(FixedDecimal.ofUnits(quantity))
+                .sellingPricePerUnit(FixedDecimal.ofUnits(selling))
+                .costPricePerUnit(FixedDecimal.ofUnits(cost))
+                .build();
+            fixedRow.calculateTotals();
+            fixedRows.add(fixedRow);
+        }
+    }
+
+    @Benchmark
+    public void sumTotalsBigDecimal(Blackhole blackhole) {
+        BigDecimal revenue = BigDecimal.ZERO;
+        BigDecimal cost = BigDecimal.ZERO;
+        for (DecimalSalesRow row : decimalRows) {
+            revenue = revenue.add(row.totalRevenue);
+            cost = cost.add(row.totalCost);
+        }
+        blackhole.consume(revenue);
+        blackhole.consume(revenue.subtract(cost));
+    }
+
+    @Benchmark
+    public void sumTotalsFixed(Blackhole blackhole) {
+        long revenue = 0;
+        long cost = 0;
+        for (SalesRecord row : fixedRows) {
+            revenue = Math.addExact(revenue, row.getTotalRevenue().units());
+            cost = Math.addExact(cost, row.getTotalCost().units());
+        }
+        blackhole.consume(FixedDecimal.ofUnits(revenue));
+        blackhole.consume(FixedDecimal.ofUnits(revenue - cost));
+    }
+
+    @Benchmark
+    public void deriveTotalsBigDecimal() {
+        for (DecimalSalesRow row : decimalRows) {
+            row.calculateTotals();
+        }
+    }
+
+    @Benchmark
+    public void deriveTotalsFixed() {
+        for (SalesRecord row : fixedRows) {
+            row.calculateTotals();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.barinventory.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.StockroomInventory;
+import com.barinventory.entity.WellInventory;
+
+/**
+ * Throughput and latency of each close-of-shift stage. Every invocation gets a
+ * fresh session prepared up to the stage under test; preparation is not timed.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SessionPipelineBenchmark {
+
+    @State(Scope.Thread)
+    public static class NoOpenSession {
+
+        @Setup(Level.Invocation)
+        public void prepare(PipelineState pipeline) {
+            pipeline.fixture.closeOpenSession();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class InitializedSession {
+
+        Long sessionId;
+        List<StockroomInventory> stockroom;
+
+        @Setup(Level.Invocation)
+        public void prepare(PipelineState pipeline) {
+            BenchmarkFixture fixture = pipeline.fixture;
+            sessionId = fixture.newSession();
+            stockroom = fixture.stockroomRows();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class StockroomSaved {
+
+        Long sessionId;
+
+        @Setup(Level.Invocation)
+        public void prepare(PipelineState pipeline) {
+            BenchmarkFixture fixture = pipeline.fixture;
+            sessionId = fixture.newSession();
+            fixture.sessions().saveStockroomInventory(sessionId, fixture.stockroomRows());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DistributionCreated {
+
+        Long sessionId;
+        List<WellInventory> wells;
+
+        @Setup(Level.Invocation)
+        public void prepare(PipelineState pipeline) {
+            BenchmarkFixture fixture = pipeline.fixture;
+            sessionId = fixture.newSession();
+            fixture.sessions().saveStockroomInventory(sessionId, fixture.stockroomRows());
+            fixture.sessions().createDistributionRecords(sessionId);
+            wells = fixture.wellRows(pipeline.wellCount);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WellsSaved {
+
+        Long sessionId;
+
+        @Setup(Level.Invocation)
+        public void prepare(PipelineState pipeline) {
+            BenchmarkFixture fixture = pipeline.fixture;
+            sessionId = fixture.newSession();
+            fixture.sessions().saveStockroomInventory(sessionId, fixture.stockroomRows());
+            fixture.sessions().createDistributionRecords(sessionId);
+            fixture.sessions().saveWellInventory(sessionId, fixture.wellRows(pipeline.wellCount));
+        }
+    }
+
+    @Benchmark
+    public InventorySession initializeSession(PipelineState pipeline, NoOpenSession state) {
+        return pipeline.fixture.sessions().initializeSession(pipeline.fixture.barId(), "NIGHT", "benchmark", false);
+    }
+
+    @Benchmark
+    public void saveStockroomInventory(PipelineState pipeline, InitializedSession state) {
+        pipeline.fixture.sessions().saveStockroomInventory(state.sessionId, state.stockroom);
+    }
+
+    @Benchmark
+    public void createDistributionRecords(PipelineState pipeline, StockroomSaved state) {
+        pipeline.fixture.sessions().createDistributionRecords(state.sessionId);
+    }
+
+    @Benchmark
+    public void saveWellInventory(PipelineState pipeline, DistributionCreated state) {
+        pipeline.fixture.sessions().saveWellInventory(state.sessionId, state.wells);
+    }
+
+    @Benchmark
+    public void commitSession(PipelineState pipeline, WellsSaved state) {
+        pipeline.fixture.sessions().commitSession(state.sessionId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.barinventory.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.StockroomInventory;
+import com.barinventory.repository.InventorySessionRepository;
+import com.barinventory.repository.StockroomInventoryRepository;
+
+/**
+ * Stockroom rows/sec: the batched ingest path against the previous
+ * one-save-per-row loop. The "rows" counter is the figure to compare.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StockroomIngestBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Batch {
+
+        Long sessionId;
+        List<StockroomInventory> stockroom;
+
+        @Setup(Level.Invocation)
+        public void prepare(PipelineState pipeline) {
+            sessionId = pipeline.fixture.newSession();
+            stockroom = pipeline.fixture.stockroomRows();
+        }
+    }
+
+    @Benchmark
+    public void batchIngest(PipelineState pipeline, Batch batch, Rows counter) {
+        pipeline.fixture.sessions().saveStockroomInventory(batch.sessionId, batch.stockroom);
+        counter.rows += batch.stockroom.size();
+    }
+
+    @Benchmark
+    public void perRowSave(PipelineState pipeline, Batch batch, Rows counter) {
+        BenchmarkFixture fixture = pipeline.fixture;
+        StockroomInventoryRepository stockroomRepository = fixture.bean(StockroomInventoryRepository.class);
+        InventorySessionRepository sessionRepository = fixture.bean(InventorySessionRepository.class);
+
+        fixture.bean(TransactionTemplate.class).executeWithoutResult(status -> {
+            InventorySession session = sessionRepository.getReferenceById(batch.sessionId);
+            for (StockroomInventory inventory : batch.stockroom) {
+                inventory.setSession(session);
+                stockroomRepository.save(inventory);
+            }
+        });
+        counter.rows += batch.stockroom.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.barinventory.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.barinventory.entity.BarProductPriceDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Active prices per bar, keyed by barId then productId
+     */
+    @Bean
+    public Cache<Long, Map<Long, BarProductPriceDTO>> priceCache(
+            @Value("${app.pricing.cache.max-bars:200}") long maxBars,
+            @Value("${app.pricing.cache.expire-after-write:12h}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        Cache<Long, Map<Long, BarProductPriceDTO>> cache = Caffeine.newBuilder()
+            .maximumSize(maxBars)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "prices");
+    }
+}
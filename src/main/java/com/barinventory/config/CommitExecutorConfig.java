@@ -0,0 +1,99 @@
+package com.barinventory.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.barinventory.entity.CommitJob;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class CommitExecutorConfig {
+
+    public static final String COMMIT_EXECUTOR = "commitExecutor";
+    public static final String GROUP_CLOSE_EXECUTOR = "groupCloseExecutor";
+
+    /**
+     * Boot's general-purpose executor, which backs off as soon as any other
+     * Executor bean exists. Declared here so @Async and MVC async requests keep
+     * using it rather than the commit pool.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Bounded pool for asynchronous session commits; a full queue rejects new jobs
+     */
+    @Bean(COMMIT_EXECUTOR)
+    public ThreadPoolTaskExecutor commitExecutor(
+            @Value("${app.commit.executor.threads:4}") int threads,
+            @Value("${app.commit.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("session-commit-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * Shared pool for the group close. Threads are capped below the connection
+     * pool size so web requests keep a few connections, however many closes run.
+     */
+    @Bean(GROUP_CLOSE_EXECUTOR)
+    public ThreadPoolTaskExecutor groupCloseExecutor(
+            DataSource dataSource,
+            @Value("${app.group-close.parallelism:8}") int parallelism,
+            @Value("${app.group-close.reserved-connections:2}") int reservedConnections) {
+        int poolSize = maximumPoolSize(dataSource, parallelism + reservedConnections);
+        int threads = Math.max(1, Math.min(parallelism, poolSize - reservedConnections));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("group-close-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * Latest commit job per session, kept for status polling
+     */
+    @Bean
+    public Cache<Long, CommitJob> commitJobs(
+            @Value("${app.commit.job-retention:1h}") Duration retention) {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(retention)
+            .build();
+    }
+
+    private static int maximumPoolSize(DataSource dataSource, int fallback) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not read the connection pool size: {}", e.getMessage());
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,32 @@
+package com.barinventory.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.barinventory.metrics.StatementCounter;
+import com.barinventory.metrics.StatementCountingDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Route every JDBC statement through the counter used for query diagnostics
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(
+            ObjectProvider<StatementCounter> statementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource, statementCounter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
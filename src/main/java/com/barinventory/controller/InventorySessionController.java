@@ -1,8 +1,16 @@
 package com.barinventory.controller;
 
 import com.barinventory.entity.*;
+import com.barinventory.enums.SessionInclude;
+import com.barinventory.service.CommitJobService;
+import com.barinventory.service.GroupCloseService;
 import com.barinventory.service.InventorySessionService;
+import com.barinventory.service.SessionReconciliationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,13 +24,17 @@ import java.util.Map;
 public class InventorySessionController {
     
     private final InventorySessionService sessionService;
+    private final CommitJobService commitJobService;
+    private final GroupCloseService groupCloseService;
+    private final SessionReconciliationService reconciliationService;
     
     @PostMapping("/initialize")
     public ResponseEntity<InventorySession> initializeSession(
             @RequestParam Long barId,
             @RequestParam String shiftType,
-            @RequestParam(required = false) String notes) {
-        return ResponseEntity.ok(sessionService.initializeSession(barId, shiftType, notes));
+            @RequestParam(required = false) String notes,
+            @RequestParam(defaultValue = "false") boolean carryForward) {
+        return ResponseEntity.ok(sessionService.initializeSession(barId, shiftType, notes, carryForward));
     }
     
     @PostMapping("/{sessionId}/stockroom")
@@ -47,6 +59,31 @@ public class InventorySessionController {
         return ResponseEntity.ok(Map.of("message", "Well inventory saved"));
     }
     
+    /**
+     * Close a whole shift in one call; 422 with the discrepancies if it does not balance.
+     * Retrying with the same closeKey returns the committed result.
+     */
+    @PostMapping("/close")
+    public ResponseEntity<ReconciliationResult> closeSession(@RequestBody SessionCloseRequest request) {
+        String closeKey = request.getCloseKey();
+        if (closeKey != null && (closeKey.isBlank() || closeKey.length() > SessionCloseRequest.MAX_CLOSE_KEY_LENGTH)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ReconciliationResult result;
+        try {
+            result = sessionService.closeSession(request);
+        } catch (DataIntegrityViolationException e) {
+            if (closeKey == null) {
+                throw e;
+            }
+            // A concurrent request with the same key committed first; answer from it
+            result = sessionService.closeSession(request);
+        }
+        return result.isBalanced()
+            ? ResponseEntity.ok(result)
+            : ResponseEntity.unprocessableEntity().body(result);
+    }
+    
     @PostMapping("/{sessionId}/commit")
     public ResponseEntity<Map<String, String>> commitSession(@PathVariable Long sessionId) {
         try {
@@ -58,6 +95,46 @@ public class InventorySessionController {
         }
     }
     
+    /**
+     * Queue the commit and return 202 with the job to poll
+     */
+    @PostMapping(value = "/{sessionId}/commit", params = "async=true")
+    public ResponseEntity<CommitJob> commitSessionAsync(@PathVariable Long sessionId) {
+        try {
+            CommitJob job = commitJobService.submit(sessionId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/api/sessions/" + sessionId + "/commit-status")
+                .body(job);
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+        }
+    }
+    
+    @GetMapping("/{sessionId}/commit-status")
+    public ResponseEntity<CommitJob> getCommitStatus(@PathVariable Long sessionId) {
+        return ResponseEntity.of(commitJobService.getJob(sessionId));
+    }
+    
+    /**
+     * Live per-product reconciliation totals while the session is being counted
+     */
+    @GetMapping("/{sessionId}/reconciliation")
+    public ResponseEntity<List<SessionProductReconciliation>> getReconciliation(
+            @PathVariable Long sessionId,
+            @RequestParam(defaultValue = "false") boolean mismatchesOnly) {
+        return ResponseEntity.ok(reconciliationService.getProductSummary(sessionId, mismatchesOnly));
+    }
+    
+    /**
+     * Commit every bar's open session in parallel
+     */
+    @PostMapping("/close-all")
+    public ResponseEntity<GroupCloseResult> closeAllSessions() {
+        return ResponseEntity.ok(groupCloseService.closeAll());
+    }
+    
     @PostMapping("/{sessionId}/rollback")
     public ResponseEntity<Map<String, String>> rollbackSession(
             @PathVariable Long sessionId,
@@ -67,22 +144,30 @@ public class InventorySessionController {
     }
     
     @GetMapping("/{sessionId}")
-    public ResponseEntity<InventorySession> getSession(@PathVariable Long sessionId) {
-        return ResponseEntity.ok(sessionService.getSession(sessionId));
+    public ResponseEntity<InventorySessionDTO> getSession(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) List<String> include) {
+        return ResponseEntity.ok(sessionService.getSessionView(sessionId, SessionInclude.parse(include)));
     }
     
     @GetMapping("/bar/{barId}")
-    public ResponseEntity<List<InventorySession>> getSessionsByBar(@PathVariable Long barId) {
-        return ResponseEntity.ok(sessionService.getSessionsByBar(barId));
+    public ResponseEntity<CursorPage<InventorySessionDTO>> getSessionsByBar(
+            @PathVariable Long barId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> include) {
+        return ResponseEntity.ok(sessionService.getSessionsByBar(barId, cursor, size, SessionInclude.parse(include)));
     }
     
     @GetMapping("/bar/{barId}/daterange")
-    public ResponseEntity<List<InventorySession>> getSessionsByDateRange(
+    public ResponseEntity<List<InventorySessionDTO>> getSessionsByDateRange(
             @PathVariable Long barId,
             @RequestParam String startDate,
-            @RequestParam String endDate) {
+            @RequestParam String endDate,
+            @RequestParam(required = false) List<String> include) {
         LocalDateTime start = LocalDateTime.parse(startDate);
         LocalDateTime end = LocalDateTime.parse(endDate);
-        return ResponseEntity.ok(sessionService.getSessionsByDateRange(barId, start, end));
+        return ResponseEntity.ok(sessionService.getSessionsByDateRange(barId, start, end,
+            SessionInclude.parse(include)));
     }
 }
@@ -0,0 +1,50 @@
+package com.barinventory.controller;
+
+import com.barinventory.enums.ExportFormat;
+import com.barinventory.service.ReportExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    
+    private final ReportExportService exportService;
+    
+    @GetMapping("/{barId}/sales/export")
+    public void exportSales(
+            @PathVariable Long barId,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        prepare(response, format, "sales-" + barId);
+        exportService.exportSales(barId, LocalDateTime.parse(startDate), LocalDateTime.parse(endDate),
+            format, response.getOutputStream());
+    }
+    
+    @GetMapping("/{barId}/audit/export")
+    public void exportAuditTrail(
+            @PathVariable Long barId,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        prepare(response, format, "audit-" + barId);
+        exportService.exportAuditTrail(barId, LocalDateTime.parse(startDate), LocalDateTime.parse(endDate),
+            format, response.getOutputStream());
+    }
+    
+    private void prepare(HttpServletResponse response, ExportFormat format, String fileName) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + fileName + "." + format.name().toLowerCase() + "\"");
+    }
+}
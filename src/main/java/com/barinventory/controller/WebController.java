@@ -119,10 +119,10 @@ public class WebController {
                             @RequestParam(required = false) String costPrice) {
 
         BarProductPrice price = BarProductPrice.builder()
-                .sellingPrice(new BigDecimal(sellingPrice))
+                .sellingPrice(FixedDecimal.parse(sellingPrice))
                 .costPrice(costPrice != null && !costPrice.isEmpty()
-                        ? new BigDecimal(costPrice)
-                        : BigDecimal.ZERO)
+                        ? FixedDecimal.parse(costPrice)
+                        : FixedDecimal.ZERO)
                 .active(true)
                 .build();
 
@@ -134,8 +134,13 @@ public class WebController {
     // ================= SESSIONS =================
 
     @GetMapping("/sessions/{barId}")
-    public String listSessions(@PathVariable Long barId, Model model) {
-        model.addAttribute("sessions", sessionService.getSessionsByBar(barId));
+    public String listSessions(@PathVariable Long barId,
+                               @RequestParam(required = false) String cursor,
+                               Model model) {
+        CursorPage<InventorySessionDTO> page = sessionService.getSessionsByBar(barId, cursor, 20, Set.of());
+        model.addAttribute("sessions", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("firstPage", cursor == null || cursor.isBlank());
         model.addAttribute("bar", barService.getBarById(barId));
         return "list";
     }
@@ -149,10 +154,11 @@ public class WebController {
     @PostMapping("/sessions/{barId}/new")
     public String createSession(@PathVariable Long barId,
                                 @RequestParam String shiftType,
-                                @RequestParam(required = false) String notes) {
+                                @RequestParam(required = false) String notes,
+                                @RequestParam(defaultValue = "false") boolean carryForward) {
 
         InventorySession session =
-                sessionService.initializeSession(barId, shiftType, notes);
+                sessionService.initializeSession(barId, shiftType, notes, carryForward);
 
         return "redirect:/stockroom/" + session.getSessionId();
     }
@@ -166,7 +172,8 @@ public class WebController {
                 .getSessionById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Session not found"));
 
-        model.addAttribute("session", session);
+        model.addAttribute("inventorySession", session);
+        model.addAttribute("products", productService.getAllActiveProducts());
 
         return "stockroom";
     }
@@ -180,7 +187,7 @@ public class WebController {
         try {
 
             InventorySession session = sessionService.getSession(sessionId);
-            List<Product> products = productService.getAllActiveProducts();
+            List<Product> products = productService.getActiveCatalog().getProducts();
 
             List<StockroomInventory> inventories = new ArrayList<>();
 
@@ -196,7 +203,7 @@ public class WebController {
                     StockroomInventory inventory = StockroomInventory.builder()
                             .session(session)
                             .product(product)
-                            .openingStock(parseDecimal(opening))
+                            .openingStock(parseOptionalDecimal(opening))
                             .receivedStock(parseDecimal(received))
                             .closingStock(parseDecimal(closing))
                             .remarks(remarks)
@@ -213,6 +220,8 @@ public class WebController {
 
         } catch (Exception e) {
             model.addAttribute("error", e.getMessage());
+            model.addAttribute("inventorySession", sessionService.getSessionById(sessionId).orElse(null));
+            model.addAttribute("products", productService.getAllActiveProducts());
             return "stockroom";
         }
     }
@@ -222,11 +231,11 @@ public class WebController {
     @GetMapping("/sessions/distribution/{sessionId}")
     public String distributionPage(@PathVariable Long sessionId, Model model) {
 
-        InventorySession session = sessionService.getSession(sessionId);
+        SessionSnapshot snapshot = sessionService.getSnapshot(sessionId);
 
-        model.addAttribute("session", session);
-        model.addAttribute("bar", session.getBar());
-        model.addAttribute("distributions", session.getDistributionRecords());
+        model.addAttribute("inventorySession", snapshot.getSession());
+        model.addAttribute("bar", snapshot.getBar());
+        model.addAttribute("distributions", snapshot.getDistributions());
 
         return "distribution";
     }
@@ -236,15 +245,17 @@ public class WebController {
     @GetMapping("/sessions/wells/{sessionId}")
     public String wellsPage(@PathVariable Long sessionId, Model model) {
 
-        InventorySession session = sessionService.getSession(sessionId);
+        SessionSnapshot snapshot = sessionService.getSnapshot(sessionId);
 
-        if (session == null || session.getBar() == null) {
+        if (snapshot.getBar() == null) {
             throw new RuntimeException("Invalid session");
         }
 
-        model.addAttribute("session", session);
-        model.addAttribute("bar", session.getBar());
+        model.addAttribute("inventorySession", snapshot.getSession());
+        model.addAttribute("bar", snapshot.getBar());
+        model.addAttribute("wells", snapshot.getWells());
         model.addAttribute("products", productService.getAllActiveProducts());
+        model.addAttribute("prices", pricingService.getActivePricesByProduct(snapshot.getBar().getBarId()));
         model.addAttribute("wellNames",
                 Arrays.asList("BAR_1", "BAR_2", "SERVICE_BAR"));
 
@@ -274,10 +285,11 @@ public class WebController {
     public ResponseEntity<InventorySessionDTO> initializeSession(
             @RequestParam Long barId,
             @RequestParam String shiftType,
-            @RequestParam String notes) {
+            @RequestParam String notes,
+            @RequestParam(defaultValue = "false") boolean carryForward) {
 
         InventorySession session =
-                sessionService.initializeSession(barId, shiftType, notes);
+                sessionService.initializeSession(barId, shiftType, notes, carryForward);
 
         InventorySessionDTO dto = InventorySessionDTO.builder()
                 .sessionId(session.getSessionId())
@@ -294,9 +306,16 @@ public class WebController {
 
     // ================= HELPER =================
 
-    private BigDecimal parseDecimal(String value) {
+    private FixedDecimal parseDecimal(String value) {
+        return (value != null && !value.isEmpty())
+                ? FixedDecimal.parse(value)
+                : FixedDecimal.ZERO;
+    }
+
+    // Blank keeps the carried-forward value
+    private FixedDecimal parseOptionalDecimal(String value) {
         return (value != null && !value.isEmpty())
-                ? new BigDecimal(value)
-                : BigDecimal.ZERO;
+                ? FixedDecimal.parse(value)
+                : null;
     }
 }
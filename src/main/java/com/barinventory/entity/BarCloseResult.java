@@ -0,0 +1,18 @@
+package com.barinventory.entity;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of committing one bar's open session during a group close
+ */
+@Value
+@Builder
+public class BarCloseResult {
+    Long barId;
+    String barName;
+    Long sessionId;
+    boolean committed;
+    String error;
+    long durationMillis;
+}
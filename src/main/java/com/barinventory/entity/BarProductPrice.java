@@ -1,14 +1,17 @@
 package com.barinventory.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
 @Table(name = "bar_product_prices", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"bar_id", "product_id"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bar-product-prices")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,10 +32,10 @@ public class BarProductPrice {
     private Product product;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal sellingPrice; // Price per bottle/unit
+    private FixedDecimal sellingPrice; // Price per bottle/unit
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal costPrice; // Optional: for profit calculation
+    private FixedDecimal costPrice; // Optional: for profit calculation
     
     @Column(nullable = false)
     private Boolean active = true;
@@ -0,0 +1,18 @@
+package com.barinventory.entity;
+
+import lombok.Value;
+
+/**
+ * Immutable bar price row, selected by a JPQL constructor expression and
+ * safe to share from the price cache across threads and sessions
+ */
+@Value
+public class BarProductPriceDTO {
+    Long id;
+    Long barId;
+    Long productId;
+    String productName;
+    FixedDecimal sellingPrice;
+    FixedDecimal costPrice;
+    Boolean active;
+}
@@ -0,0 +1,34 @@
+package com.barinventory.entity;
+
+import java.time.LocalDateTime;
+
+import com.barinventory.enums.CommitJobStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An asynchronous session commit; updated by the worker thread, read by status polls
+ */
+@Getter
+@Setter
+@Builder
+public class CommitJob {
+    private final String jobId;
+    private final Long sessionId;
+    private final LocalDateTime submittedAt;
+    private volatile CommitJobStatus status;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    /**
+     * Queued or running, so a repeated commit request joins this job
+     */
+    @JsonIgnore
+    public boolean isInFlight() {
+        return status == CommitJobStatus.QUEUED || status == CommitJobStatus.RUNNING;
+    }
+}
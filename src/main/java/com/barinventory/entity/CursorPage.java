@@ -0,0 +1,20 @@
+package com.barinventory.entity;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One page of a keyset-paginated result; pass nextCursor back to get the following page
+ */
+@Value
+@Builder
+public class CursorPage<T> {
+    List<T> items;
+    String nextCursor;
+    
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
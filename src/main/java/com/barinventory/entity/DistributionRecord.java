@@ -1,6 +1,5 @@
 package com.barinventory.entity;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import com.barinventory.enums.DistributionStatus;
@@ -19,6 +18,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,7 +27,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "distribution_records")
+@Table(name = "distribution_records",
+       uniqueConstraints = @UniqueConstraint(name = "uk_distribution_session_product", columnNames = {"session_id", "product_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,13 +53,13 @@ public class DistributionRecord {
     private Product product;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal quantityFromStockroom = BigDecimal.ZERO; // Must match stockroom transferred
+    private FixedDecimal quantityFromStockroom = FixedDecimal.ZERO; // Must match stockroom transferred
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAllocated = BigDecimal.ZERO; // Sum of all well allocations
+    private FixedDecimal totalAllocated = FixedDecimal.ZERO; // Sum of all well allocations
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal unallocated = BigDecimal.ZERO; // quantityFromStockroom - totalAllocated
+    private FixedDecimal unallocated = FixedDecimal.ZERO; // quantityFromStockroom - totalAllocated
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -70,12 +71,11 @@ public class DistributionRecord {
     @PrePersist
     @PreUpdate
     public void calculateUnallocated() {
-        this.unallocated = this.quantityFromStockroom.subtract(this.totalAllocated);
+        this.unallocated = this.quantityFromStockroom.minus(this.totalAllocated);
         
-        if (this.unallocated.compareTo(BigDecimal.ZERO) == 0 && 
-            this.totalAllocated.compareTo(BigDecimal.ZERO) > 0) {
+        if (this.unallocated.isZero() && this.totalAllocated.isPositive()) {
             this.status = DistributionStatus.ALLOCATED;
-        } else if (this.totalAllocated.compareTo(BigDecimal.ZERO) == 0) {
+        } else if (this.totalAllocated.isZero()) {
             this.status = DistributionStatus.PENDING_ALLOCATION;
         }
     }
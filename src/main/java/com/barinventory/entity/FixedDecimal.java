@@ -0,0 +1,111 @@
+package com.barinventory.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Scale-2 fixed-point quantity or amount held as a count of hundredths.
+ * Arithmetic stays on the long; BigDecimal is only built at the JDBC and JSON edges.
+ * Overflow throws ArithmeticException instead of wrapping.
+ */
+public final class FixedDecimal implements Comparable<FixedDecimal> {
+
+    public static final int SCALE = 2;
+    public static final FixedDecimal ZERO = new FixedDecimal(0);
+
+    private static final long ONE = 100;
+
+    private final long units;
+
+    private FixedDecimal(long units) {
+        this.units = units;
+    }
+
+    /**
+     * Value from a count of hundredths
+     */
+    public static FixedDecimal ofUnits(long units) {
+        return units == 0 ? ZERO : new FixedDecimal(units);
+    }
+
+    public static FixedDecimal of(long whole) {
+        return ofUnits(Math.multiplyExact(whole, ONE));
+    }
+
+    /**
+     * Value from a decimal, rounded half-up to two places
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static FixedDecimal of(BigDecimal value) {
+        return ofUnits(value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public static FixedDecimal parse(String value) {
+        return of(new BigDecimal(value.trim()));
+    }
+
+    /**
+     * Product of two hundredths counts, rounded half-up back to hundredths
+     */
+    public static long multiplyUnits(long a, long b) {
+        long product = Math.multiplyExact(a, b);
+        long half = product >= 0 ? ONE / 2 : -ONE / 2;
+        return (product + half) / ONE;
+    }
+
+    public long units() {
+        return units;
+    }
+
+    public FixedDecimal plus(FixedDecimal other) {
+        return ofUnits(Math.addExact(units, other.units));
+    }
+
+    public FixedDecimal minus(FixedDecimal other) {
+        return ofUnits(Math.subtractExact(units, other.units));
+    }
+
+    public FixedDecimal times(FixedDecimal other) {
+        return ofUnits(multiplyUnits(units, other.units));
+    }
+
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    public boolean isPositive() {
+        return units > 0;
+    }
+
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    @Override
+    public int compareTo(FixedDecimal other) {
+        return Long.compare(units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FixedDecimal fixed && fixed.units == units;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.barinventory.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps FixedDecimal attributes onto the existing DECIMAL(p, 2) columns
+ */
+@Converter(autoApply = true)
+public class FixedDecimalConverter implements AttributeConverter<FixedDecimal, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(FixedDecimal attribute) {
+        return attribute != null ? attribute.toBigDecimal() : null;
+    }
+
+    @Override
+    public FixedDecimal convertToEntityAttribute(BigDecimal column) {
+        return column != null ? FixedDecimal.of(column) : null;
+    }
+}
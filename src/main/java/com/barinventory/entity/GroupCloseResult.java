@@ -0,0 +1,26 @@
+package com.barinventory.entity;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class GroupCloseResult {
+    int parallelism;
+    long wallClockMillis;
+    List<BarCloseResult> bars;
+    
+    public int getSessionsFound() {
+        return bars.size();
+    }
+    
+    public long getCommitted() {
+        return bars.stream().filter(BarCloseResult::isCommitted).count();
+    }
+    
+    public long getFailed() {
+        return getSessionsFound() - getCommitted();
+    }
+}
@@ -16,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -29,7 +30,9 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "inventory_sessions")
+@Table(name = "inventory_sessions", indexes = {
+		@Index(name = "idx_sessions_bar_start", columnList = "bar_id, session_start_time, session_id"),
+		@Index(name = "idx_sessions_bar_status_start", columnList = "bar_id, status, session_start_time") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,6 +68,14 @@ public class InventorySession {
 	@Column(length = 1000)
 	private String validationErrors;
 
+	// Unbalanced products, written only by the reconciliation refresh; null for sessions started before tracking
+	@Column(updatable = false)
+	private Integer dirtyProducts;
+
+	// Idempotency key of the one-call close that completed this session, if any
+	@Column(length = 64, unique = true)
+	private String closeKey;
+
 	@OneToMany(mappedBy = "session", cascade = CascadeType.ALL, orphanRemoval = true)
 	@JsonIgnore
 	private List<SalesRecord> salesRecords;
@@ -1,21 +1,51 @@
 package com.barinventory.entity;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.barinventory.enums.SessionStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class InventorySessionDTO {
     private Long sessionId;
     private Long barId;
     private String barName;
     private LocalDateTime sessionStartTime;
+    private LocalDateTime sessionEndTime;
     private SessionStatus status;
     private String shiftType;
     private String notes;
+    private String validationErrors;
     // DON'T include nested collections that reference back
-}
\ No newline at end of file
+
+    // Only filled when requested with ?include=
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<StockroomLineDTO> stockroom;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<WellLineDTO> wells;
+
+    /**
+     * Constructor for JPQL projections selecting only the session columns
+     */
+    public InventorySessionDTO(Long sessionId, Long barId, String barName, LocalDateTime sessionStartTime,
+                               LocalDateTime sessionEndTime, SessionStatus status, String shiftType,
+                               String notes, String validationErrors) {
+        this.sessionId = sessionId;
+        this.barId = barId;
+        this.barName = barName;
+        this.sessionStartTime = sessionStartTime;
+        this.sessionEndTime = sessionEndTime;
+        this.status = status;
+        this.shiftType = shiftType;
+        this.notes = notes;
+        this.validationErrors = validationErrors;
+    }
+}
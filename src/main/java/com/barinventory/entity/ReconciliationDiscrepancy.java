@@ -0,0 +1,15 @@
+package com.barinventory.entity;
+
+import com.barinventory.enums.ReconciliationCheck;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReconciliationDiscrepancy {
+    Long productId;
+    String productName;
+    ReconciliationCheck check;
+    String message;
+}
@@ -0,0 +1,28 @@
+package com.barinventory.entity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReconciliationResult {
+    Long sessionId;
+    int productsChecked;
+    List<ReconciliationDiscrepancy> discrepancies;
+    
+    public boolean isBalanced() {
+        return discrepancies.isEmpty();
+    }
+    
+    /**
+     * All discrepancy messages joined, in the format stored as validation errors
+     */
+    public String getSummary() {
+        return discrepancies.stream()
+            .map(ReconciliationDiscrepancy::getMessage)
+            .collect(Collectors.joining(" "));
+    }
+}
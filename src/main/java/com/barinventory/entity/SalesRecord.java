@@ -3,11 +3,13 @@ package com.barinventory.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "sales_records")
+@Table(name = "sales_records", indexes = {
+        @Index(name = "idx_sales_session_product", columnList = "session_id, product_id"),
+        @Index(name = "idx_sales_bar_date", columnList = "bar_id, business_date, session_id") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,33 +25,45 @@ public class SalesRecord {
     @JoinColumn(name = "session_id", nullable = false)
     private InventorySession session;
     
+    // Copied from the session so bar/date reports filter on this table alone
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bar_id", nullable = false)
+    private Bar bar;
+    
+    @Column(nullable = false)
+    private LocalDate businessDate; // Date of the session start
+    
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal quantitySold = BigDecimal.ZERO; // Sum of consumed from all wells
+    private FixedDecimal quantitySold = FixedDecimal.ZERO; // Sum of consumed from all wells
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal sellingPricePerUnit = BigDecimal.ZERO;
+    private FixedDecimal sellingPricePerUnit = FixedDecimal.ZERO;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalRevenue = BigDecimal.ZERO; // quantitySold × sellingPricePerUnit
+    private FixedDecimal totalRevenue = FixedDecimal.ZERO; // quantitySold × sellingPricePerUnit
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal costPricePerUnit = BigDecimal.ZERO;
+    private FixedDecimal costPricePerUnit = FixedDecimal.ZERO;
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal totalCost = BigDecimal.ZERO;
+    private FixedDecimal totalCost = FixedDecimal.ZERO;
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal profit = BigDecimal.ZERO; // totalRevenue - totalCost
+    private FixedDecimal profit = FixedDecimal.ZERO; // totalRevenue - totalCost
     
     @PrePersist
     @PreUpdate
     public void calculateTotals() {
-        this.totalRevenue = this.quantitySold.multiply(this.sellingPricePerUnit);
-        this.totalCost = this.quantitySold.multiply(this.costPricePerUnit);
-        this.profit = this.totalRevenue.subtract(this.totalCost);
+        long revenue = FixedDecimal.multiplyUnits(quantitySold.units(), sellingPricePerUnit.units());
+        long cost = costPricePerUnit != null
+            ? FixedDecimal.multiplyUnits(quantitySold.units(), costPricePerUnit.units())
+            : 0;
+        this.totalRevenue = FixedDecimal.ofUnits(revenue);
+        this.totalCost = FixedDecimal.ofUnits(cost);
+        this.profit = FixedDecimal.ofUnits(revenue - cost);
     }
 }
@@ -0,0 +1,26 @@
+package com.barinventory.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of POST /api/sessions/close: everything counted at the end of a shift.
+ * A client-chosen closeKey (at most 64 characters) makes retries safe: a
+ * request repeating the key of a committed close returns that close's result.
+ */
+@Data
+@NoArgsConstructor
+public class SessionCloseRequest {
+    public static final int MAX_CLOSE_KEY_LENGTH = 64;
+    
+    private String closeKey;
+    private Long barId;
+    private String shiftType;
+    private String notes;
+    private boolean carryForward;
+    private List<StockroomInventory> stockroom = new ArrayList<>();
+    private List<WellInventory> wells = new ArrayList<>();
+}
@@ -0,0 +1,68 @@
+package com.barinventory.entity;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running per-product reconciliation totals for a session.
+ * Refreshed after every stage save; a null stage total means the stage has no rows yet.
+ */
+@Entity
+@Table(name = "session_product_reconciliation",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "product_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionProductReconciliation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", nullable = false)
+    @JsonIgnore
+    private InventorySession session;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(precision = 14, scale = 2)
+    private BigDecimal transferred; // Stockroom transferred out
+
+    @Column(precision = 14, scale = 2)
+    private BigDecimal distributed; // Distribution quantity from stockroom
+
+    @Column(precision = 14, scale = 2)
+    private BigDecimal allocated;
+
+    @Column(precision = 14, scale = 2)
+    private BigDecimal unallocated;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal wellsReceived = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private boolean balanced;
+}
@@ -0,0 +1,25 @@
+package com.barinventory.entity;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Read-only view of a session and all of its stage rows, each with its
+ * product already loaded. Built by InventorySessionService.getSnapshot.
+ */
+@Value
+@Builder
+public class SessionSnapshot {
+    InventorySession session;
+    Bar bar;
+    List<StockroomInventory> stockroom;
+    List<DistributionRecord> distributions;
+    List<WellInventory> wells;
+    List<SalesRecord> sales;
+    
+    public Long getSessionId() {
+        return session.getSessionId();
+    }
+}
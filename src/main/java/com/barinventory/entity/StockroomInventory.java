@@ -1,6 +1,5 @@
 package com.barinventory.entity;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
@@ -16,6 +15,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,7 +24,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "stockroom_inventory")
+@Table(name = "stockroom_inventory",
+       uniqueConstraints = @UniqueConstraint(name = "uk_stockroom_session_product", columnNames = {"session_id", "product_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,16 +42,16 @@ public class StockroomInventory {
 	private Product product;
 
 	@Column(nullable = false, precision = 10, scale = 2)
-	private BigDecimal openingStock = BigDecimal.ZERO; // Previous closing
+	private FixedDecimal openingStock; // Previous closing; null on input keeps the carried-forward value
 
 	@Column(nullable = false, precision = 10, scale = 2)
-	private BigDecimal receivedStock = BigDecimal.ZERO; // New deliveries
+	private FixedDecimal receivedStock = FixedDecimal.ZERO; // New deliveries
 
 	@Column(nullable = false, precision = 10, scale = 2)
-	private BigDecimal closingStock = BigDecimal.ZERO; // Physical count
+	private FixedDecimal closingStock = FixedDecimal.ZERO; // Physical count
 
 	@Column(nullable = false, precision = 10, scale = 2)
-	private BigDecimal transferredOut = BigDecimal.ZERO; // Opening + Received - Closing
+	private FixedDecimal transferredOut = FixedDecimal.ZERO; // Opening + Received - Closing
 
 	@Column(length = 200)
 	private String remarks;
@@ -63,9 +64,16 @@ public class StockroomInventory {
 	private InventorySession session;
 
 
+	/**
+	 * Keeping a stored opening stock is resolved by the save paths before
+	 * anything is written; a row that still has none here opens at zero.
+	 */
 	@PrePersist
 	@PreUpdate
 	public void calculateTransferred() {
-		this.transferredOut = this.openingStock.add(this.receivedStock).subtract(this.closingStock);
+		if (openingStock == null) {
+			openingStock = FixedDecimal.ZERO;
+		}
+		this.transferredOut = openingStock.plus(receivedStock).minus(closingStock);
 	}
 }
@@ -0,0 +1,21 @@
+package com.barinventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Value;
+
+/**
+ * Stockroom row of a session DTO, selected by a JPQL constructor expression
+ */
+@Value
+public class StockroomLineDTO {
+    @JsonIgnore
+    Long sessionId;
+    Long productId;
+    String productName;
+    FixedDecimal openingStock;
+    FixedDecimal receivedStock;
+    FixedDecimal closingStock;
+    FixedDecimal transferredOut;
+    String remarks;
+}
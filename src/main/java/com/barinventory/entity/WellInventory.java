@@ -1,6 +1,5 @@
 package com.barinventory.entity;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -16,6 +15,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,7 +24,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "well_inventory")
+@Table(name = "well_inventory",
+       uniqueConstraints = @UniqueConstraint(name = "uk_well_session_product_well", columnNames = {"session_id", "product_id", "well_name"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,25 +53,30 @@ public class WellInventory {
     private String wellName; // BAR_1, BAR_2, SERVICE_BAR, etc.
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal openingStock = BigDecimal.ZERO;
+    private FixedDecimal openingStock; // Null on input keeps the carried-forward value
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal receivedFromDistribution = BigDecimal.ZERO;
+    private FixedDecimal receivedFromDistribution = FixedDecimal.ZERO;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal closingStock = BigDecimal.ZERO;
+    private FixedDecimal closingStock = FixedDecimal.ZERO;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal consumed = BigDecimal.ZERO; // Opening + Received - Closing
+    private FixedDecimal consumed = FixedDecimal.ZERO; // Opening + Received - Closing
     
     @Column(length = 200)
     private String remarks;
     
+    /**
+     * Keeping a stored opening stock is resolved by the save paths before
+     * anything is written; a row that still has none here opens at zero.
+     */
     @PrePersist
     @PreUpdate
     public void calculateConsumed() {
-        this.consumed = this.openingStock
-            .add(this.receivedFromDistribution)
-            .subtract(this.closingStock);
+        if (openingStock == null) {
+            openingStock = FixedDecimal.ZERO;
+        }
+        this.consumed = openingStock.plus(receivedFromDistribution).minus(closingStock);
     }
 }
@@ -0,0 +1,22 @@
+package com.barinventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Value;
+
+/**
+ * Well row of a session DTO, selected by a JPQL constructor expression
+ */
+@Value
+public class WellLineDTO {
+    @JsonIgnore
+    Long sessionId;
+    Long productId;
+    String productName;
+    String wellName;
+    FixedDecimal openingStock;
+    FixedDecimal receivedFromDistribution;
+    FixedDecimal closingStock;
+    FixedDecimal consumed;
+    String remarks;
+}
@@ -0,0 +1,8 @@
+package com.barinventory.enums;
+
+public enum CommitJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.barinventory.enums;
+
+public enum ExportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+    
+    private final String contentType;
+    
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+}
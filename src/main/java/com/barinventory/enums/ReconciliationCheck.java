@@ -0,0 +1,7 @@
+package com.barinventory.enums;
+
+public enum ReconciliationCheck {
+    STOCKROOM_TO_DISTRIBUTION,
+    DISTRIBUTION_TO_WELLS,
+    UNALLOCATED_STOCK
+}
@@ -0,0 +1,32 @@
+package com.barinventory.enums;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Child collections a session read endpoint can add with ?include=
+ */
+public enum SessionInclude {
+    STOCKROOM,
+    WELLS;
+
+    public static Set<SessionInclude> parse(Collection<String> values) {
+        Set<SessionInclude> includes = EnumSet.noneOf(SessionInclude.class);
+        if (values == null) {
+            return includes;
+        }
+        for (String value : values) {
+            if (value.isBlank()) {
+                continue;
+            }
+            try {
+                includes.add(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown include: " + value);
+            }
+        }
+        return includes;
+    }
+}
@@ -0,0 +1,10 @@
+package com.barinventory.enums;
+
+public enum SessionStage {
+    STOCKROOM,
+    DISTRIBUTION,
+    WELL_ALLOCATION,
+    VALIDATION,
+    SALES_GENERATION,
+    COMMIT
+}
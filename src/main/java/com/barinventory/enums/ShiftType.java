@@ -0,0 +1,26 @@
+package com.barinventory.enums;
+
+import java.util.Locale;
+
+/**
+ * Shift types offered by the session form. Sessions store the shift as free
+ * text, so anything else falls into OTHER wherever a bounded value is needed
+ * (e.g. metric tags).
+ */
+public enum ShiftType {
+    MORNING,
+    EVENING,
+    NIGHT,
+    OTHER;
+
+    public static ShiftType of(String value) {
+        if (value == null) {
+            return OTHER;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return OTHER;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.barinventory.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements counted on one thread between open and close, in total and
+ * per table. Nested scopes also count towards their parent.
+ */
+public final class QueryCountScope {
+
+    private static final Pattern TABLE = Pattern.compile("\\b(?:from|into|update)\\s+([\\w.]+)",
+        Pattern.CASE_INSENSITIVE);
+
+    final QueryCountScope parent;
+    private long statements;
+    private final Map<String, Long> statementsByTable = new HashMap<>();
+
+    QueryCountScope(QueryCountScope parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql) {
+        String table = tableOf(sql);
+        for (QueryCountScope scope = this; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.statementsByTable.merge(table, 1L, Long::sum);
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public Map<String, Long> getStatementsByTable() {
+        return Map.copyOf(statementsByTable);
+    }
+
+    private static String tableOf(String sql) {
+        Matcher matcher = TABLE.matcher(sql);
+        return matcher.find() ? matcher.group(1).toLowerCase() : "unknown";
+    }
+}
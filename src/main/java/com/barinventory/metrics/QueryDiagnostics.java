@@ -0,0 +1,139 @@
+package com.barinventory.metrics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-request statement statistics and a bounded log of requests that look like N+1 access
+ */
+@Component
+@Slf4j
+public class QueryDiagnostics {
+
+    public static final String REQUEST_STATEMENTS = "http.server.requests.statements";
+    public static final String N_PLUS_ONE_SUSPECTED = "repository.n_plus_one.suspected";
+
+    private final MeterRegistry registry;
+    private final int threshold;
+    private final int maxSuspects;
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+    private final Deque<Suspect> suspects = new ConcurrentLinkedDeque<>();
+
+    public QueryDiagnostics(MeterRegistry registry,
+                            @Value("${app.diagnostics.n-plus-one-threshold:20}") int threshold,
+                            @Value("${app.diagnostics.recent-suspects:100}") int maxSuspects) {
+        this.registry = registry;
+        this.threshold = threshold;
+        this.maxSuspects = maxSuspects;
+    }
+
+    /**
+     * Record a finished request's statements and flag tables hit more than the threshold
+     */
+    public void recordRequest(String method, String uri, QueryCountScope scope) {
+        String endpoint = method + " " + uri;
+        statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats()).record(scope.getStatements());
+
+        DistributionSummary.builder(REQUEST_STATEMENTS)
+            .description("SQL statements issued per HTTP request")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(registry)
+            .record(scope.getStatements());
+
+        Map<String, Long> offending = new TreeMap<>();
+        scope.getStatementsByTable().forEach((table, count) -> {
+            if (count > threshold) {
+                offending.put(table, count);
+            }
+        });
+        if (offending.isEmpty()) {
+            return;
+        }
+
+        offending.keySet().forEach(table -> Counter.builder(N_PLUS_ONE_SUSPECTED)
+            .description("Requests exceeding the per-table statement threshold")
+            .tag("uri", uri)
+            .tag("table", table)
+            .register(registry)
+            .increment());
+
+        suspects.addFirst(Suspect.builder()
+            .endpoint(endpoint)
+            .statements(scope.getStatements())
+            .statementsByTable(offending)
+            .detectedAt(LocalDateTime.now())
+            .build());
+        while (suspects.size() > maxSuspects) {
+            suspects.pollLast();
+        }
+
+        log.warn("Possible N+1 on {}: {} statements, per table over threshold {}: {}",
+            endpoint, scope.getStatements(), threshold, offending);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> endpoints = new TreeMap<>();
+        statsByEndpoint.forEach((endpoint, stats) -> endpoints.put(endpoint, stats.toMap()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("nPlusOneThreshold", threshold);
+        result.put("endpoints", endpoints);
+        result.put("suspects", new ArrayList<>(suspects));
+        return result;
+    }
+
+    public List<Suspect> getSuspects() {
+        return List.copyOf(suspects);
+    }
+
+    @lombok.Value
+    @Builder
+    public static class Suspect {
+        String endpoint;
+        long statements;
+        Map<String, Long> statementsByTable;
+        LocalDateTime detectedAt;
+    }
+
+    private static final class EndpointStats {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        void record(long count) {
+            requests.increment();
+            statements.add(count);
+            maxStatements.accumulateAndGet(count, Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            long requestCount = requests.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requestCount);
+            map.put("statements", statements.sum());
+            map.put("avgStatements", requestCount == 0 ? 0.0 : (double) statements.sum() / requestCount);
+            map.put("maxStatements", maxStatements.get());
+            return map;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.barinventory.metrics;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/querydiagnostics - statement counts per endpoint and recent N+1 suspects
+ */
+@Component
+@Endpoint(id = "querydiagnostics")
+@RequiredArgsConstructor
+public class QueryDiagnosticsEndpoint {
+
+    private final QueryDiagnostics diagnostics;
+
+    @ReadOperation
+    public Map<String, Object> diagnostics() {
+        return diagnostics.snapshot();
+    }
+}
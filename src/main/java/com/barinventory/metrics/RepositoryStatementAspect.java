@@ -0,0 +1,57 @@
+package com.barinventory.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records how many SQL statements each repository method issues.
+ * Method latency comes from Spring Boot's spring.data.repository.invocations timer.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryStatementAspect {
+
+    public static final String REPOSITORY_STATEMENTS = "repository.statements";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        QueryCountScope scope = statementCounter.open();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            statementCounter.close(scope);
+            DistributionSummary.builder(REPOSITORY_STATEMENTS)
+                .description("SQL statements issued per repository method call")
+                .tag("repository", repositoryName(joinPoint.getThis()))
+                .tag("method", joinPoint.getSignature().getName())
+                .register(registry)
+                .record(scope.getStatements());
+        }
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (candidate.getPackageName().startsWith("com.barinventory")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
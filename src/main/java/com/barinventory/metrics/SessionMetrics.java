@@ -0,0 +1,89 @@
+package com.barinventory.metrics;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.ReconciliationDiscrepancy;
+import com.barinventory.enums.SessionStage;
+import com.barinventory.enums.ShiftType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Timers and counters for the session lifecycle, tagged by bar and shift type.
+ * The shift tag is bucketed into ShiftType so free-text shifts cannot grow the series count.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionMetrics {
+
+    public static final String STAGE_TIMER = "inventory.session.stage";
+    public static final String STAGE_ROWS = "inventory.session.stage.rows";
+    public static final String VALIDATION_FAILURES = "inventory.session.validation.failures";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Time a stage whose work returns the number of rows it processed
+     */
+    public int timed(SessionStage stage, InventorySession session, IntSupplier work) {
+        return timed(stage, session, work::getAsInt, Integer::intValue);
+    }
+
+    /**
+     * Time a stage and count the rows reported for its result
+     */
+    public <T> T timed(SessionStage stage, InventorySession session, Supplier<T> work, ToIntFunction<T> rows) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "failure";
+        try {
+            T result = work.get();
+            outcome = "success";
+            Counter.builder(STAGE_ROWS)
+                .description("Rows processed per session stage")
+                .tags(tags(stage, session))
+                .register(registry)
+                .increment(rows.applyAsInt(result));
+            return result;
+        } finally {
+            sample.stop(Timer.builder(STAGE_TIMER)
+                .description("Duration of each session lifecycle stage")
+                .tags(tags(stage, session).and("outcome", outcome))
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+    }
+
+    /**
+     * Count reconciliation discrepancies by the validator that raised them
+     */
+    public void recordValidationFailures(InventorySession session, List<ReconciliationDiscrepancy> discrepancies) {
+        for (ReconciliationDiscrepancy discrepancy : discrepancies) {
+            Counter.builder(VALIDATION_FAILURES)
+                .description("Reconciliation discrepancies found at commit")
+                .tags(barAndShift(session).and("validator", discrepancy.getCheck().name()))
+                .register(registry)
+                .increment();
+        }
+    }
+
+    private Tags tags(SessionStage stage, InventorySession session) {
+        return barAndShift(session).and("stage", stage.name().toLowerCase());
+    }
+
+    private Tags barAndShift(InventorySession session) {
+        return Tags.of(
+            "bar", String.valueOf(session.getBar().getBarId()),
+            "shift", ShiftType.of(session.getShiftType()).name().toLowerCase());
+    }
+}
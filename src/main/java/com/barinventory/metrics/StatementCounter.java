@@ -0,0 +1,39 @@
+package com.barinventory.metrics;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts every SQL statement sent through the application's DataSource on the
+ * current thread into the innermost open scope.
+ *
+ * @see StatementCountingDataSource
+ */
+@Component
+public class StatementCounter {
+
+    private final ThreadLocal<QueryCountScope> current = new ThreadLocal<>();
+
+    void record(String sql) {
+        QueryCountScope scope = current.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+    }
+
+    /**
+     * Start counting on this thread; must be closed in a finally block
+     */
+    public QueryCountScope open() {
+        QueryCountScope scope = new QueryCountScope(current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    public void close(QueryCountScope scope) {
+        if (scope.parent != null) {
+            current.set(scope.parent);
+        } else {
+            current.remove();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.barinventory.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.BiConsumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the pool so every statement sent over JDBC is counted, whether it comes
+ * from Hibernate, a native query or JdbcTemplate. A prepared statement counts
+ * once when it is prepared, however many times it is executed or batched.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final StatementCounter statementCounter;
+
+    public StatementCountingDataSource(DataSource target, StatementCounter statementCounter) {
+        super(target);
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                statementCounter.record(sql);
+            }
+        });
+    }
+
+    /**
+     * Plain statements carry their SQL on each execute rather than up front
+     */
+    private Statement countingStatement(Statement statement) {
+        return proxy(Statement.class, statement, (method, args) -> {
+            String name = method.getName();
+            if ((name.startsWith("execute") || name.equals("addBatch"))
+                    && args != null && args.length > 0 && args[0] instanceof String sql) {
+                statementCounter.record(sql);
+            }
+        });
+    }
+
+    private <T> T proxy(Class<T> type, T target, BiConsumer<Method, Object[]> beforeCall) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    beforeCall.accept(method, args);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            if (type == Connection.class && method.getName().equals("createStatement")) {
+                return countingStatement((Statement) result);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
@@ -1,7 +1,10 @@
 package com.barinventory.repository;
 
 import com.barinventory.entity.BarProductPrice;
+import com.barinventory.entity.BarProductPriceDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +18,17 @@ public interface BarProductPriceRepository extends JpaRepository<BarProductPrice
     Optional<BarProductPrice> findByBarBarIdAndProductProductId(Long barId, Long productId);
     
     List<BarProductPrice> findByBarBarIdAndActiveTrue(Long barId);
+    
+    @Query("SELECT new com.barinventory.entity.BarProductPriceDTO(p.id, b.barId, pr.productId, " +
+           "pr.productName, p.sellingPrice, p.costPrice, p.active) " +
+           "FROM BarProductPrice p JOIN p.bar b JOIN p.product pr " +
+           "WHERE b.barId = :barId AND p.active = true")
+    List<BarProductPriceDTO> findActiveLinesByBar(@Param("barId") Long barId);
+    
+    @Query("SELECT new com.barinventory.entity.BarProductPriceDTO(p.id, b.barId, pr.productId, " +
+           "pr.productName, p.sellingPrice, p.costPrice, p.active) " +
+           "FROM BarProductPrice p JOIN p.bar b JOIN p.product pr " +
+           "WHERE b.barId = :barId AND pr.productId = :productId")
+    Optional<BarProductPriceDTO> findLineByBarAndProduct(@Param("barId") Long barId,
+                                                         @Param("productId") Long productId);
 }
@@ -2,16 +2,22 @@ package com.barinventory.repository;
 
 import com.barinventory.entity.Bar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface BarRepository extends JpaRepository<Bar, Long> {
     
     List<Bar> findByActiveTrue();
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Bar> findByBarName(String barName);
     
     boolean existsByBarName(String barName);
@@ -0,0 +1,57 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.DailySalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollup, Long> {
+    
+    /**
+     * Fold a committed session's sales into the rollup with one statement
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_sales_rollup"))
+    @Query(value = "INSERT INTO daily_sales_rollup " +
+                   "(bar_id, business_date, product_id, quantity_sold, total_revenue, total_cost, sales_count) " +
+                   "SELECT :barId, :businessDate, s.product_id, SUM(s.quantity_sold), SUM(s.total_revenue), " +
+                   "COALESCE(SUM(s.total_cost), 0), COUNT(*) " +
+                   "FROM sales_records s WHERE s.session_id = :sessionId GROUP BY s.product_id " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "quantity_sold = quantity_sold + VALUES(quantity_sold), " +
+                   "total_revenue = total_revenue + VALUES(total_revenue), " +
+                   "total_cost = total_cost + VALUES(total_cost), " +
+                   "sales_count = sales_count + VALUES(sales_count)",
+           nativeQuery = true)
+    int addSessionSales(@Param("sessionId") Long sessionId,
+                        @Param("barId") Long barId,
+                        @Param("businessDate") LocalDate businessDate);
+    
+    @Query("SELECT r.businessDate AS businessDate, SUM(r.totalRevenue) AS totalRevenue, " +
+           "SUM(r.totalCost) AS totalCost FROM DailySalesRollup r " +
+           "WHERE r.bar.barId = :barId AND r.businessDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY r.businessDate ORDER BY r.businessDate")
+    List<DailySalesTotal> sumByDay(@Param("barId") Long barId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT p.productName AS productName, SUM(r.quantitySold) AS totalQuantity, " +
+           "SUM(r.totalRevenue) AS totalRevenue, SUM(r.totalCost) AS totalCost, " +
+           "SUM(r.salesCount) AS salesCount FROM DailySalesRollup r JOIN r.product p " +
+           "WHERE r.bar.barId = :barId AND r.businessDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY p.productName")
+    List<ProductSalesTotal> sumByProduct(@Param("barId") Long barId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,16 @@
+package com.barinventory.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per-day sales aggregate read from the daily rollup
+ */
+public interface DailySalesTotal {
+    
+    LocalDate getBusinessDate();
+    
+    BigDecimal getTotalRevenue();
+    
+    BigDecimal getTotalCost();
+}
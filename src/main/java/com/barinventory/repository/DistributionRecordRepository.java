@@ -2,16 +2,58 @@ package com.barinventory.repository;
 
 import com.barinventory.entity.DistributionRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
 public interface DistributionRecordRepository extends JpaRepository<DistributionRecord, Long> {
     
     List<DistributionRecord> findBySessionSessionId(Long sessionId);
     
+    /**
+     * Create or refresh a session's distribution records from its stockroom
+     * transfers in one statement, keyed on (session, product). Allocations
+     * already made are kept; unallocated and status follow the new quantity.
+     * Products whose transfer dropped to zero keep a record so reconciliation sees it.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "distribution_records"))
+    @Query(value = "INSERT INTO distribution_records " +
+                   "(session_id, product_id, quantity_from_stockroom, total_allocated, unallocated, status) " +
+                   "SELECT s.session_id, s.product_id, s.transferred_out, 0, s.transferred_out, 'PENDING_ALLOCATION' " +
+                   "FROM stockroom_inventory s WHERE s.session_id = :sessionId " +
+                   "AND (s.transferred_out > 0 OR EXISTS (SELECT 1 FROM distribution_records d " +
+                   "WHERE d.session_id = s.session_id AND d.product_id = s.product_id)) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "quantity_from_stockroom = VALUES(quantity_from_stockroom), " +
+                   "unallocated = VALUES(quantity_from_stockroom) - total_allocated, " +
+                   "status = CASE WHEN total_allocated = 0 THEN 'PENDING_ALLOCATION' " +
+                   "WHEN VALUES(quantity_from_stockroom) = total_allocated THEN 'ALLOCATED' " +
+                   "ELSE status END",
+           nativeQuery = true)
+    int upsertFromStockroom(@Param("sessionId") Long sessionId);
+
+    @Query("SELECT d FROM DistributionRecord d JOIN FETCH d.product p " +
+           "WHERE d.session.sessionId = :sessionId ORDER BY p.productName")
+    List<DistributionRecord> findBySessionWithProduct(@Param("sessionId") Long sessionId);
+    
     Optional<DistributionRecord> findBySessionSessionIdAndProductProductId(
         Long sessionId, Long productId);
+    
+    @Query("SELECT p.productId AS productId, p.productName AS productName, " +
+           "SUM(d.quantityFromStockroom) AS quantityFromStockroomValue, " +
+           "SUM(d.totalAllocated) AS totalAllocatedValue, SUM(d.unallocated) AS unallocatedValue " +
+           "FROM DistributionRecord d JOIN d.product p " +
+           "WHERE d.session.sessionId = :sessionId GROUP BY p.productId, p.productName")
+    List<DistributionTotal> sumBySessionGroupByProduct(@Param("sessionId") Long sessionId);
 }
@@ -0,0 +1,35 @@
+package com.barinventory.repository;
+
+import java.math.BigDecimal;
+
+import com.barinventory.entity.FixedDecimal;
+
+/**
+ * Per-product distribution aggregate returned by grouped session queries.
+ * SUM comes back as BigDecimal and projections cannot convert it, so the
+ * raw values are wrapped in default methods.
+ */
+public interface DistributionTotal {
+    
+    Long getProductId();
+    
+    String getProductName();
+    
+    BigDecimal getQuantityFromStockroomValue();
+    
+    BigDecimal getTotalAllocatedValue();
+    
+    BigDecimal getUnallocatedValue();
+    
+    default FixedDecimal getQuantityFromStockroom() {
+        return FixedDecimal.of(getQuantityFromStockroomValue());
+    }
+    
+    default FixedDecimal getTotalAllocated() {
+        return FixedDecimal.of(getTotalAllocatedValue());
+    }
+    
+    default FixedDecimal getUnallocated() {
+        return FixedDecimal.of(getUnallocatedValue());
+    }
+}
@@ -4,19 +4,37 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.InventorySessionDTO;
 import com.barinventory.enums.SessionStatus;
 
 @Repository
-public interface InventorySessionRepository extends JpaRepository<InventorySession, Long> {
+public interface InventorySessionRepository extends JpaRepository<InventorySession, Long>,
+		InventorySessionRepositoryCustom {
 
 	List<InventorySession> findByBarBarIdOrderBySessionStartTimeDesc(Long barId);
 
+	@Query("SELECT new com.barinventory.entity.InventorySessionDTO(s.sessionId, b.barId, b.barName, "
+			+ "s.sessionStartTime, s.sessionEndTime, s.status, s.shiftType, s.notes, s.validationErrors) "
+			+ "FROM InventorySession s JOIN s.bar b WHERE b.barId = :barId "
+			+ "ORDER BY s.sessionStartTime DESC, s.sessionId DESC")
+	List<InventorySessionDTO> findLatestByBar(@Param("barId") Long barId, Pageable pageable);
+
+	@Query("SELECT new com.barinventory.entity.InventorySessionDTO(s.sessionId, b.barId, b.barName, "
+			+ "s.sessionStartTime, s.sessionEndTime, s.status, s.shiftType, s.notes, s.validationErrors) "
+			+ "FROM InventorySession s JOIN s.bar b WHERE b.barId = :barId "
+			+ "AND (s.sessionStartTime < :startTime "
+			+ "OR (s.sessionStartTime = :startTime AND s.sessionId < :sessionId)) "
+			+ "ORDER BY s.sessionStartTime DESC, s.sessionId DESC")
+	List<InventorySessionDTO> findByBarBefore(@Param("barId") Long barId, @Param("startTime") LocalDateTime startTime,
+			@Param("sessionId") Long sessionId, Pageable pageable);
+
 	List<InventorySession> findByBarBarIdAndStatus(Long barId, SessionStatus status);
 
 	Optional<InventorySession> findFirstByBarBarIdAndStatusOrderBySessionStartTimeDesc(Long barId,
@@ -27,11 +45,32 @@ public interface InventorySessionRepository extends JpaRepository<InventorySessi
 	List<InventorySession> findSessionsByBarAndDateRange(@Param("barId") Long barId,
 			@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-	@Query("SELECT s FROM InventorySession s WHERE s.status = :status " + "ORDER BY s.sessionStartTime DESC")
+	@Query("SELECT s FROM InventorySession s JOIN FETCH s.bar WHERE s.status = :status "
+			+ "ORDER BY s.sessionStartTime DESC")
 	List<InventorySession> findByStatus(@Param("status") SessionStatus status);
 
 	Optional<InventorySession> findBySessionId(Long sessionId);
 
+	Optional<InventorySession> findByCloseKey(String closeKey);
+
+	/**
+	 * The stored unbalanced product count, read past any managed copy of the session
+	 */
+	@Query("SELECT s.dirtyProducts FROM InventorySession s WHERE s.sessionId = :sessionId")
+	Integer findDirtyProductsById(@Param("sessionId") Long sessionId);
+
+	@Query("SELECT new com.barinventory.entity.InventorySessionDTO(s.sessionId, b.barId, b.barName, "
+			+ "s.sessionStartTime, s.sessionEndTime, s.status, s.shiftType, s.notes, s.validationErrors) "
+			+ "FROM InventorySession s JOIN s.bar b WHERE s.sessionId = :sessionId")
+	Optional<InventorySessionDTO> findDtoById(@Param("sessionId") Long sessionId);
+
+	@Query("SELECT new com.barinventory.entity.InventorySessionDTO(s.sessionId, b.barId, b.barName, "
+			+ "s.sessionStartTime, s.sessionEndTime, s.status, s.shiftType, s.notes, s.validationErrors) "
+			+ "FROM InventorySession s JOIN s.bar b WHERE b.barId = :barId "
+			+ "AND s.sessionStartTime BETWEEN :startDate AND :endDate ORDER BY s.sessionStartTime DESC")
+	List<InventorySessionDTO> findDtosByBarAndDateRange(@Param("barId") Long barId,
+			@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
 	@Query("""
 			SELECT s
 			FROM InventorySession s
@@ -0,0 +1,16 @@
+package com.barinventory.repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.barinventory.entity.InventorySession;
+
+public interface InventorySessionRepositoryCustom {
+
+	/**
+	 * Stream a bar's sessions for export, newest first, with the export fetch size.
+	 * The end bound is exclusive.
+	 */
+	Stream<InventorySession> streamSessionsByBarAndDateRange(Long barId, LocalDateTime startDate,
+			LocalDateTime endDate);
+}
@@ -0,0 +1,36 @@
+package com.barinventory.repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import com.barinventory.entity.InventorySession;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@RequiredArgsConstructor
+public class InventorySessionRepositoryImpl implements InventorySessionRepositoryCustom {
+
+	private final EntityManager entityManager;
+
+	@Value("${app.export.fetch-size:500}")
+	private int fetchSize;
+
+	@Override
+	public Stream<InventorySession> streamSessionsByBarAndDateRange(Long barId, LocalDateTime startDate,
+			LocalDateTime endDate) {
+		return entityManager
+			.createQuery("SELECT s FROM InventorySession s JOIN FETCH s.bar WHERE s.bar.barId = :barId "
+					+ "AND s.sessionStartTime >= :startDate AND s.sessionStartTime < :endDate "
+					+ "ORDER BY s.sessionStartTime DESC", InventorySession.class)
+			.setParameter("barId", barId)
+			.setParameter("startDate", startDate)
+			.setParameter("endDate", endDate)
+			.setHint(HINT_FETCH_SIZE, fetchSize)
+			.getResultStream();
+	}
+}
@@ -0,0 +1,23 @@
+package com.barinventory.repository;
+
+import java.math.BigDecimal;
+
+import com.barinventory.entity.FixedDecimal;
+
+/**
+ * Per-product quantity aggregate returned by grouped session queries.
+ * SUM comes back as BigDecimal and projections cannot convert it, so the
+ * raw value is wrapped in a default method.
+ */
+public interface ProductQuantityTotal {
+    
+    Long getProductId();
+    
+    String getProductName();
+    
+    BigDecimal getTotalValue();
+    
+    default FixedDecimal getTotal() {
+        return FixedDecimal.of(getTotalValue());
+    }
+}
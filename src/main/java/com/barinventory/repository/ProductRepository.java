@@ -2,11 +2,16 @@ package com.barinventory.repository;
 
 import com.barinventory.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
@@ -14,6 +19,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     List<Product> findByCategory(String category);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Product> findByProductName(String productName);
     
     boolean existsByProductName(String productName);
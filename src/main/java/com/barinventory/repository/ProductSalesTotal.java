@@ -0,0 +1,19 @@
+package com.barinventory.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-product sales aggregate read from the daily rollup
+ */
+public interface ProductSalesTotal {
+    
+    String getProductName();
+    
+    BigDecimal getTotalQuantity();
+    
+    BigDecimal getTotalRevenue();
+    
+    BigDecimal getTotalCost();
+    
+    Long getSalesCount();
+}
@@ -7,23 +7,31 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface SalesRecordRepository extends JpaRepository<SalesRecord, Long> {
+public interface SalesRecordRepository extends JpaRepository<SalesRecord, Long>,
+        SalesRecordRepositoryCustom {
     
     List<SalesRecord> findBySessionSessionId(Long sessionId);
+
+    @Query("SELECT s FROM SalesRecord s JOIN FETCH s.product p " +
+           "WHERE s.session.sessionId = :sessionId ORDER BY p.productName")
+    List<SalesRecord> findBySessionWithProduct(@Param("sessionId") Long sessionId);
     
     @Query("SELECT COALESCE(SUM(s.totalRevenue), 0) FROM SalesRecord s " +
            "WHERE s.session.sessionId = :sessionId")
     BigDecimal getTotalRevenueBySession(@Param("sessionId") Long sessionId);
     
-    @Query("SELECT s FROM SalesRecord s WHERE s.session.bar.barId = :barId " +
-           "AND s.session.sessionStartTime BETWEEN :startDate AND :endDate " +
-           "ORDER BY s.session.sessionStartTime DESC")
+    /**
+     * Sales for a bar between two business dates inclusive, newest session first
+     */
+    @Query("SELECT s FROM SalesRecord s JOIN FETCH s.product WHERE s.bar.barId = :barId " +
+           "AND s.businessDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.businessDate DESC, s.session.sessionId DESC")
     List<SalesRecord> findSalesByBarAndDateRange(
         @Param("barId") Long barId,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate);
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,22 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.SalesRecord;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface SalesRecordRepositoryCustom {
+    
+    /**
+     * Insert sales rows for a session as multi-row JDBC batches
+     */
+    int batchInsert(Long sessionId, List<SalesRecord> salesRecords);
+    
+    /**
+     * Stream sales for export with the export fetch size
+     * (app.export.fetch-size; Integer.MIN_VALUE makes MySQL stream row by row).
+     * The end business date is exclusive.
+     */
+    Stream<SalesRecord> streamSalesByBarAndDateRange(Long barId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,73 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.SalesRecord;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@RequiredArgsConstructor
+public class SalesRecordRepositoryImpl implements SalesRecordRepositoryCustom {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO sales_records " +
+        "(session_id, bar_id, business_date, product_id, quantity_sold, selling_price_per_unit, " +
+        "total_revenue, cost_price_per_unit, total_cost, profit) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String STREAM_JPQL =
+        "SELECT s FROM SalesRecord s JOIN FETCH s.session ses JOIN FETCH ses.bar JOIN FETCH s.product " +
+        "WHERE s.bar.barId = :barId " +
+        "AND s.businessDate >= :startDate AND s.businessDate < :endDate " +
+        "ORDER BY s.businessDate DESC, ses.sessionStartTime DESC";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    
+    @Value("${app.jdbc.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+    
+    @Override
+    public int batchInsert(Long sessionId, List<SalesRecord> salesRecords) {
+        if (salesRecords.isEmpty()) {
+            return 0;
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_SQL, salesRecords, batchSize, (ps, sales) -> {
+            // Same derivation the @PrePersist callback would apply
+            sales.calculateTotals();
+            ps.setLong(1, sessionId);
+            ps.setLong(2, sales.getBar().getBarId());
+            ps.setDate(3, Date.valueOf(sales.getBusinessDate()));
+            ps.setLong(4, sales.getProduct().getProductId());
+            ps.setBigDecimal(5, sales.getQuantitySold().toBigDecimal());
+            ps.setBigDecimal(6, sales.getSellingPricePerUnit().toBigDecimal());
+            ps.setBigDecimal(7, sales.getTotalRevenue().toBigDecimal());
+            ps.setBigDecimal(8, sales.getCostPricePerUnit() != null ? sales.getCostPricePerUnit().toBigDecimal() : null);
+            ps.setBigDecimal(9, sales.getTotalCost().toBigDecimal());
+            ps.setBigDecimal(10, sales.getProfit().toBigDecimal());
+        });
+        
+        return salesRecords.size();
+    }
+    
+    @Override
+    public Stream<SalesRecord> streamSalesByBarAndDateRange(Long barId, LocalDate startDate, LocalDate endDate) {
+        return entityManager.createQuery(STREAM_JPQL, SalesRecord.class)
+            .setParameter("barId", barId)
+            .setParameter("startDate", startDate)
+            .setParameter("endDate", endDate)
+            .setHint(HINT_FETCH_SIZE, fetchSize)
+            .getResultStream();
+    }
+}
@@ -0,0 +1,102 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.SessionProductReconciliation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface SessionProductReconciliationRepository extends JpaRepository<SessionProductReconciliation, Long> {
+    
+    String REFRESH_INSERT = "INSERT INTO session_product_reconciliation " +
+            "(session_id, product_id, transferred, distributed, allocated, unallocated, wells_received, balanced) " +
+            "SELECT :sessionId, p.product_id, s.transferred, d.distributed, d.allocated, d.unallocated, " +
+            "COALESCE(w.received, 0), " +
+            "CASE WHEN (s.transferred IS NOT NULL AND ((d.distributed IS NULL AND s.transferred > 0) " +
+            "OR (d.distributed IS NOT NULL AND s.transferred <> d.distributed))) " +
+            "OR (d.distributed IS NOT NULL AND (d.allocated <> COALESCE(w.received, 0) OR d.unallocated > 0)) " +
+            "THEN FALSE ELSE TRUE END ";
+    
+    String REFRESH_ON_DUPLICATE = "ON DUPLICATE KEY UPDATE " +
+            "transferred = VALUES(transferred), " +
+            "distributed = VALUES(distributed), " +
+            "allocated = VALUES(allocated), " +
+            "unallocated = VALUES(unallocated), " +
+            "wells_received = VALUES(wells_received), " +
+            "balanced = VALUES(balanced)";
+    
+    /**
+     * Recompute a session's per-product totals and balance flags in one statement.
+     * The balance rules match SessionReconciliationService.
+     * Native writes declare their table so only that cache region is invalidated.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "session_product_reconciliation"))
+    @Query(value = REFRESH_INSERT +
+                   "FROM (SELECT product_id FROM stockroom_inventory WHERE session_id = :sessionId " +
+                   "UNION SELECT product_id FROM distribution_records WHERE session_id = :sessionId " +
+                   "UNION SELECT product_id FROM well_inventory WHERE session_id = :sessionId) p " +
+                   "LEFT JOIN (SELECT product_id, SUM(transferred_out) AS transferred FROM stockroom_inventory " +
+                   "WHERE session_id = :sessionId GROUP BY product_id) s ON s.product_id = p.product_id " +
+                   "LEFT JOIN (SELECT product_id, SUM(quantity_from_stockroom) AS distributed, " +
+                   "SUM(total_allocated) AS allocated, SUM(unallocated) AS unallocated FROM distribution_records " +
+                   "WHERE session_id = :sessionId GROUP BY product_id) d ON d.product_id = p.product_id " +
+                   "LEFT JOIN (SELECT product_id, SUM(received_from_distribution) AS received FROM well_inventory " +
+                   "WHERE session_id = :sessionId GROUP BY product_id) w ON w.product_id = p.product_id " +
+                   REFRESH_ON_DUPLICATE,
+           nativeQuery = true)
+    int refreshSession(@Param("sessionId") Long sessionId);
+    
+    /**
+     * Recompute the summary rows of only the given products, which is all a
+     * stockroom or well save can change
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "session_product_reconciliation"))
+    @Query(value = REFRESH_INSERT +
+                   "FROM (SELECT product_id FROM stockroom_inventory " +
+                   "WHERE session_id = :sessionId AND product_id IN (:productIds) " +
+                   "UNION SELECT product_id FROM distribution_records " +
+                   "WHERE session_id = :sessionId AND product_id IN (:productIds) " +
+                   "UNION SELECT product_id FROM well_inventory " +
+                   "WHERE session_id = :sessionId AND product_id IN (:productIds)) p " +
+                   "LEFT JOIN (SELECT product_id, SUM(transferred_out) AS transferred FROM stockroom_inventory " +
+                   "WHERE session_id = :sessionId AND product_id IN (:productIds) GROUP BY product_id) s " +
+                   "ON s.product_id = p.product_id " +
+                   "LEFT JOIN (SELECT product_id, SUM(quantity_from_stockroom) AS distributed, " +
+                   "SUM(total_allocated) AS allocated, SUM(unallocated) AS unallocated FROM distribution_records " +
+                   "WHERE session_id = :sessionId AND product_id IN (:productIds) GROUP BY product_id) d " +
+                   "ON d.product_id = p.product_id " +
+                   "LEFT JOIN (SELECT product_id, SUM(received_from_distribution) AS received FROM well_inventory " +
+                   "WHERE session_id = :sessionId AND product_id IN (:productIds) GROUP BY product_id) w " +
+                   "ON w.product_id = p.product_id " +
+                   REFRESH_ON_DUPLICATE,
+           nativeQuery = true)
+    int refreshProducts(@Param("sessionId") Long sessionId, @Param("productIds") Collection<Long> productIds);
+    
+    /**
+     * Store the session's unbalanced product count on the session row
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "inventory_sessions"))
+    @Query(value = "UPDATE inventory_sessions SET dirty_products = " +
+                   "(SELECT COUNT(*) FROM session_product_reconciliation r " +
+                   "WHERE r.session_id = :sessionId AND r.balanced = FALSE) " +
+                   "WHERE session_id = :sessionId",
+           nativeQuery = true)
+    int updateDirtyProducts(@Param("sessionId") Long sessionId);
+    
+    @Query("SELECT r FROM SessionProductReconciliation r JOIN FETCH r.product p " +
+           "WHERE r.session.sessionId = :sessionId ORDER BY p.productName")
+    List<SessionProductReconciliation> findBySessionWithProduct(@Param("sessionId") Long sessionId);
+}
@@ -1,17 +1,57 @@
 package com.barinventory.repository;
 
 import com.barinventory.entity.StockroomInventory;
+import com.barinventory.entity.StockroomLineDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
-public interface StockroomInventoryRepository extends JpaRepository<StockroomInventory, Long> {
+public interface StockroomInventoryRepository extends JpaRepository<StockroomInventory, Long>,
+        StockroomInventoryRepositoryCustom {
     
     List<StockroomInventory> findBySessionSessionId(Long sessionId);
     
+    /**
+     * Seed a session's stockroom rows from another session's closing stock,
+     * as opening stock with nothing received or transferred yet
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "stockroom_inventory"))
+    @Query(value = "INSERT INTO stockroom_inventory " +
+                   "(session_id, product_id, opening_stock, received_stock, closing_stock, transferred_out) " +
+                   "SELECT :sessionId, s.product_id, s.closing_stock, 0, s.closing_stock, 0 " +
+                   "FROM stockroom_inventory s WHERE s.session_id = :fromSessionId",
+           nativeQuery = true)
+    int carryForward(@Param("sessionId") Long sessionId, @Param("fromSessionId") Long fromSessionId);
+    
+    @Query("SELECT s FROM StockroomInventory s JOIN FETCH s.product p " +
+           "WHERE s.session.sessionId = :sessionId ORDER BY p.productName")
+    List<StockroomInventory> findBySessionWithProduct(@Param("sessionId") Long sessionId);
+    
     Optional<StockroomInventory> findBySessionSessionIdAndProductProductId(
         Long sessionId, Long productId);
+    
+    @Query("SELECT new com.barinventory.entity.StockroomLineDTO(s.session.sessionId, p.productId, " +
+           "p.productName, s.openingStock, s.receivedStock, s.closingStock, s.transferredOut, s.remarks) " +
+           "FROM StockroomInventory s JOIN s.product p WHERE s.session.sessionId IN :sessionIds " +
+           "ORDER BY s.session.sessionId, p.productName")
+    List<StockroomLineDTO> findLinesBySessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+    
+    @Query("SELECT p.productId AS productId, p.productName AS productName, " +
+           "SUM(s.transferredOut) AS totalValue FROM StockroomInventory s JOIN s.product p " +
+           "WHERE s.session.sessionId = :sessionId GROUP BY p.productId, p.productName")
+    List<ProductQuantityTotal> sumTransferredBySessionGroupByProduct(
+        @Param("sessionId") Long sessionId);
 }
@@ -0,0 +1,15 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.StockroomInventory;
+
+import java.util.List;
+
+public interface StockroomInventoryRepositoryCustom {
+    
+    /**
+     * Insert or update stockroom rows for a session as multi-row JDBC batches,
+     * keyed on (session, product) so a resubmitted form overwrites its rows.
+     * A row without an opening stock keeps the stored one, or starts at zero.
+     */
+    int batchUpsert(Long sessionId, List<StockroomInventory> inventories);
+}
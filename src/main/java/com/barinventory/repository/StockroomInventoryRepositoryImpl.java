@@ -0,0 +1,77 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.StockroomInventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StockroomInventoryRepositoryImpl implements StockroomInventoryRepositoryCustom {
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO stockroom_inventory " +
+        "(session_id, product_id, opening_stock, received_stock, closing_stock, transferred_out, remarks) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "opening_stock = VALUES(opening_stock), " +
+        "received_stock = VALUES(received_stock), " +
+        "closing_stock = VALUES(closing_stock), " +
+        "transferred_out = VALUES(transferred_out), " +
+        "remarks = VALUES(remarks)";
+    
+    // Rows submitted without an opening stock keep the stored (e.g. carried-forward) value
+    private static final String UPSERT_KEEP_OPENING_SQL =
+        "INSERT INTO stockroom_inventory " +
+        "(session_id, product_id, opening_stock, received_stock, closing_stock, transferred_out, remarks) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "received_stock = VALUES(received_stock), " +
+        "closing_stock = VALUES(closing_stock), " +
+        "transferred_out = opening_stock + VALUES(received_stock) - VALUES(closing_stock), " +
+        "remarks = VALUES(remarks)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.jdbc.batch-size:500}")
+    private int batchSize;
+    
+    @Override
+    public int batchUpsert(Long sessionId, List<StockroomInventory> inventories) {
+        List<StockroomInventory> withOpening = new ArrayList<>();
+        List<StockroomInventory> withoutOpening = new ArrayList<>();
+        for (StockroomInventory inventory : inventories) {
+            if (inventory.getOpeningStock() != null) {
+                withOpening.add(inventory);
+            } else {
+                inventory.setOpeningStock(FixedDecimal.ZERO);
+                withoutOpening.add(inventory);
+            }
+        }
+        
+        upsert(UPSERT_SQL, sessionId, withOpening);
+        upsert(UPSERT_KEEP_OPENING_SQL, sessionId, withoutOpening);
+        return inventories.size();
+    }
+    
+    private void upsert(String sql, Long sessionId, List<StockroomInventory> inventories) {
+        if (inventories.isEmpty()) {
+            return;
+        }
+        
+        jdbcTemplate.batchUpdate(sql, inventories, batchSize, (ps, inventory) -> {
+            // Same derivation the @PrePersist callback would apply
+            inventory.calculateTransferred();
+            ps.setLong(1, sessionId);
+            ps.setLong(2, inventory.getProduct().getProductId());
+            ps.setBigDecimal(3, inventory.getOpeningStock().toBigDecimal());
+            ps.setBigDecimal(4, inventory.getReceivedStock().toBigDecimal());
+            ps.setBigDecimal(5, inventory.getClosingStock().toBigDecimal());
+            ps.setBigDecimal(6, inventory.getTransferredOut().toBigDecimal());
+            ps.setString(7, inventory.getRemarks());
+        });
+    }
+}
@@ -1,19 +1,45 @@
 package com.barinventory.repository;
 
 import com.barinventory.entity.WellInventory;
+import com.barinventory.entity.WellLineDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
-public interface WellInventoryRepository extends JpaRepository<WellInventory, Long> {
+public interface WellInventoryRepository extends JpaRepository<WellInventory, Long>,
+        WellInventoryRepositoryCustom {
     
     List<WellInventory> findBySessionSessionId(Long sessionId);
     
+    /**
+     * Seed a session's well rows from another session's closing stock,
+     * as opening stock with nothing received or consumed yet
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "well_inventory"))
+    @Query(value = "INSERT INTO well_inventory " +
+                   "(session_id, product_id, well_name, opening_stock, received_from_distribution, " +
+                   "closing_stock, consumed) " +
+                   "SELECT :sessionId, w.product_id, w.well_name, w.closing_stock, 0, w.closing_stock, 0 " +
+                   "FROM well_inventory w WHERE w.session_id = :fromSessionId",
+           nativeQuery = true)
+    int carryForward(@Param("sessionId") Long sessionId, @Param("fromSessionId") Long fromSessionId);
+    
+    @Query("SELECT w FROM WellInventory w JOIN FETCH w.product WHERE w.session.sessionId = :sessionId")
+    List<WellInventory> findBySessionWithProduct(@Param("sessionId") Long sessionId);
+    
     List<WellInventory> findBySessionSessionIdAndProductProductId(
         Long sessionId, Long productId);
     
@@ -28,4 +54,16 @@ public interface WellInventoryRepository extends JpaRepository<WellInventory, Lo
     BigDecimal sumConsumedBySessionAndProduct(
         @Param("sessionId") Long sessionId, 
         @Param("productId") Long productId);
+    
+    @Query("SELECT new com.barinventory.entity.WellLineDTO(w.session.sessionId, p.productId, p.productName, " +
+           "w.wellName, w.openingStock, w.receivedFromDistribution, w.closingStock, w.consumed, w.remarks) " +
+           "FROM WellInventory w JOIN w.product p WHERE w.session.sessionId IN :sessionIds " +
+           "ORDER BY w.session.sessionId, p.productName, w.wellName")
+    List<WellLineDTO> findLinesBySessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+    
+    @Query("SELECT p.productId AS productId, p.productName AS productName, " +
+           "SUM(w.receivedFromDistribution) AS totalValue FROM WellInventory w JOIN w.product p " +
+           "WHERE w.session.sessionId = :sessionId GROUP BY p.productId, p.productName")
+    List<ProductQuantityTotal> sumReceivedBySessionGroupByProduct(
+        @Param("sessionId") Long sessionId);
 }
@@ -0,0 +1,15 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.WellInventory;
+
+import java.util.Collection;
+
+public interface WellInventoryRepositoryCustom {
+    
+    /**
+     * Insert or update well rows for a session as multi-row JDBC batches,
+     * keyed on (session, product, well) so a resubmitted form overwrites its rows.
+     * A row without an opening stock keeps the stored one, or starts at zero.
+     */
+    int batchUpsert(Long sessionId, Collection<WellInventory> wellInventories);
+}
@@ -0,0 +1,81 @@
+package com.barinventory.repository;
+
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.WellInventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class WellInventoryRepositoryImpl implements WellInventoryRepositoryCustom {
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO well_inventory " +
+        "(session_id, product_id, well_name, opening_stock, received_from_distribution, " +
+        "closing_stock, consumed, remarks) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "opening_stock = VALUES(opening_stock), " +
+        "received_from_distribution = VALUES(received_from_distribution), " +
+        "closing_stock = VALUES(closing_stock), " +
+        "consumed = VALUES(consumed), " +
+        "remarks = VALUES(remarks)";
+    
+    // Rows submitted without an opening stock keep the stored (e.g. carried-forward) value
+    private static final String UPSERT_KEEP_OPENING_SQL =
+        "INSERT INTO well_inventory " +
+        "(session_id, product_id, well_name, opening_stock, received_from_distribution, " +
+        "closing_stock, consumed, remarks) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "received_from_distribution = VALUES(received_from_distribution), " +
+        "closing_stock = VALUES(closing_stock), " +
+        "consumed = opening_stock + VALUES(received_from_distribution) - VALUES(closing_stock), " +
+        "remarks = VALUES(remarks)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.jdbc.batch-size:500}")
+    private int batchSize;
+    
+    @Override
+    public int batchUpsert(Long sessionId, Collection<WellInventory> wellInventories) {
+        List<WellInventory> withOpening = new ArrayList<>();
+        List<WellInventory> withoutOpening = new ArrayList<>();
+        for (WellInventory wellInventory : wellInventories) {
+            if (wellInventory.getOpeningStock() != null) {
+                withOpening.add(wellInventory);
+            } else {
+                wellInventory.setOpeningStock(FixedDecimal.ZERO);
+                withoutOpening.add(wellInventory);
+            }
+        }
+        
+        upsert(UPSERT_SQL, sessionId, withOpening);
+        upsert(UPSERT_KEEP_OPENING_SQL, sessionId, withoutOpening);
+        return wellInventories.size();
+    }
+    
+    private void upsert(String sql, Long sessionId, List<WellInventory> wellInventories) {
+        if (wellInventories.isEmpty()) {
+            return;
+        }
+        
+        jdbcTemplate.batchUpdate(sql, wellInventories, batchSize, (ps, wellInventory) -> {
+            // Same derivation the @PrePersist callback would apply
+            wellInventory.calculateConsumed();
+            ps.setLong(1, sessionId);
+            ps.setLong(2, wellInventory.getProduct().getProductId());
+            ps.setString(3, wellInventory.getWellName());
+            ps.setBigDecimal(4, wellInventory.getOpeningStock().toBigDecimal());
+            ps.setBigDecimal(5, wellInventory.getReceivedFromDistribution().toBigDecimal());
+            ps.setBigDecimal(6, wellInventory.getClosingStock().toBigDecimal());
+            ps.setBigDecimal(7, wellInventory.getConsumed().toBigDecimal());
+            ps.setString(8, wellInventory.getRemarks());
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.barinventory.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.barinventory.entity.DistributionRecord;
+import com.barinventory.entity.FixedDecimal;
+
+/**
+ * Per-request view of a session's distribution records keyed by product.
+ * Well allocations are summed in memory and only the records that changed
+ * are handed back for a single batched flush.
+ */
+final class AllocationLedger {
+
+    private final Map<Long, DistributionRecord> recordsByProduct;
+    private final Map<Long, DistributionRecord> changed = new LinkedHashMap<>();
+
+    private AllocationLedger(Map<Long, DistributionRecord> recordsByProduct) {
+        this.recordsByProduct = recordsByProduct;
+    }
+
+    static AllocationLedger of(List<DistributionRecord> distributions) {
+        Map<Long, DistributionRecord> recordsByProduct = new HashMap<>(distributions.size() * 2);
+        for (DistributionRecord distribution : distributions) {
+            Long productId = distribution.getProduct().getProductId();
+            if (recordsByProduct.putIfAbsent(productId, distribution) != null) {
+                throw new RuntimeException("Multiple distribution records found for product: "
+                    + distribution.getProduct().getProductName());
+            }
+        }
+        return new AllocationLedger(recordsByProduct);
+    }
+
+    /**
+     * Add a well allocation to the product's distribution total
+     */
+    void allocate(Long productId, FixedDecimal quantity) {
+        DistributionRecord distribution = recordsByProduct.get(productId);
+        if (distribution == null) {
+            throw new RuntimeException("Distribution record not found");
+        }
+
+        distribution.setTotalAllocated(distribution.getTotalAllocated().plus(quantity));
+        changed.put(productId, distribution);
+    }
+
+    Collection<DistributionRecord> changedRecords() {
+        return changed.values();
+    }
+}
@@ -0,0 +1,96 @@
+package com.barinventory.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.barinventory.config.CommitExecutorConfig;
+import com.barinventory.entity.CommitJob;
+import com.barinventory.enums.CommitJobStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs session commits off the request thread on the bounded commit executor.
+ * Repeated requests for a session join its queued, running or succeeded job.
+ */
+@Service
+@Slf4j
+public class CommitJobService {
+
+    private final InventorySessionService sessionService;
+    private final ThreadPoolTaskExecutor commitExecutor;
+    private final Cache<Long, CommitJob> commitJobs;
+
+    public CommitJobService(InventorySessionService sessionService,
+                            @Qualifier(CommitExecutorConfig.COMMIT_EXECUTOR) ThreadPoolTaskExecutor commitExecutor,
+                            Cache<Long, CommitJob> commitJobs) {
+        this.sessionService = sessionService;
+        this.commitExecutor = commitExecutor;
+        this.commitJobs = commitJobs;
+    }
+
+    /**
+     * Enqueue a commit, or return the job already covering this session
+     *
+     * @throws TaskRejectedException when the commit queue is full
+     */
+    public CommitJob submit(Long sessionId) {
+        CommitJob job = CommitJob.builder()
+            .jobId(UUID.randomUUID().toString())
+            .sessionId(sessionId)
+            .submittedAt(LocalDateTime.now())
+            .status(CommitJobStatus.QUEUED)
+            .build();
+        CommitJob[] replaced = new CommitJob[1];
+        CommitJob current = commitJobs.asMap().compute(sessionId, (id, existing) -> {
+            if (existing != null && (existing.isInFlight() || existing.getStatus() == CommitJobStatus.SUCCEEDED)) {
+                return existing;
+            }
+            replaced[0] = existing;
+            return job;
+        });
+        if (current != job) {
+            return current;
+        }
+        // Hand off outside compute so a slow or rejecting executor never holds the map's lock
+        try {
+            commitExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            if (replaced[0] != null) {
+                commitJobs.asMap().replace(sessionId, job, replaced[0]);
+            } else {
+                commitJobs.asMap().remove(sessionId, job);
+            }
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<CommitJob> getJob(Long sessionId) {
+        return Optional.ofNullable(commitJobs.getIfPresent(sessionId));
+    }
+
+    private void run(CommitJob job) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus(CommitJobStatus.RUNNING);
+        CommitJobStatus outcome;
+        try {
+            sessionService.commitSession(job.getSessionId());
+            outcome = CommitJobStatus.SUCCEEDED;
+        } catch (RuntimeException e) {
+            log.warn("Commit job {} for session {} failed: {}", job.getJobId(), job.getSessionId(), e.getMessage());
+            job.setError(e.getMessage());
+            outcome = CommitJobStatus.FAILED;
+        }
+        // Publish the finish time before the final status pollers act on
+        job.setFinishedAt(LocalDateTime.now());
+        job.setStatus(outcome);
+    }
+}
@@ -0,0 +1,85 @@
+package com.barinventory.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.barinventory.config.CommitExecutorConfig;
+import com.barinventory.entity.BarCloseResult;
+import com.barinventory.entity.GroupCloseResult;
+import com.barinventory.entity.InventorySession;
+import com.barinventory.enums.SessionStatus;
+import com.barinventory.repository.InventorySessionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * End-of-night close for the whole group: commits every open session in
+ * parallel on the shared group close executor, each in its own transaction.
+ */
+@Service
+@Slf4j
+public class GroupCloseService {
+
+    private final InventorySessionRepository sessionRepository;
+    private final InventorySessionService sessionService;
+    private final ThreadPoolTaskExecutor groupCloseExecutor;
+
+    public GroupCloseService(InventorySessionRepository sessionRepository,
+                             InventorySessionService sessionService,
+                             @Qualifier(CommitExecutorConfig.GROUP_CLOSE_EXECUTOR) ThreadPoolTaskExecutor groupCloseExecutor) {
+        this.sessionRepository = sessionRepository;
+        this.sessionService = sessionService;
+        this.groupCloseExecutor = groupCloseExecutor;
+    }
+
+    /**
+     * Commit every IN_PROGRESS session and report the outcome per bar
+     */
+    public GroupCloseResult closeAll() {
+        long start = System.nanoTime();
+        List<InventorySession> openSessions = sessionRepository.findByStatus(SessionStatus.IN_PROGRESS);
+        List<BarCloseResult> results = new ArrayList<>(openSessions.size());
+
+        List<CompletableFuture<BarCloseResult>> pending = new ArrayList<>(openSessions.size());
+        for (InventorySession session : openSessions) {
+            pending.add(CompletableFuture.supplyAsync(() -> close(session), groupCloseExecutor));
+        }
+        for (CompletableFuture<BarCloseResult> result : pending) {
+            results.add(result.join());
+        }
+
+        GroupCloseResult summary = GroupCloseResult.builder()
+            .parallelism(groupCloseExecutor.getMaxPoolSize())
+            .wallClockMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+            .bars(results)
+            .build();
+        log.info("Group close committed {} of {} sessions ({} failed) in {} ms",
+            summary.getCommitted(), summary.getSessionsFound(), summary.getFailed(), summary.getWallClockMillis());
+        return summary;
+    }
+
+    private BarCloseResult close(InventorySession session) {
+        long start = System.nanoTime();
+        BarCloseResult.BarCloseResultBuilder result = BarCloseResult.builder()
+            .barId(session.getBar().getBarId())
+            .barName(session.getBar().getBarName())
+            .sessionId(session.getSessionId());
+        try {
+            sessionService.commitSession(session.getSessionId());
+            result.committed(true);
+        } catch (RuntimeException e) {
+            log.warn("Group close failed for bar {} session {}: {}",
+                session.getBar().getBarName(), session.getSessionId(), e.getMessage());
+            result.committed(false).error(e.getMessage());
+        }
+        return result
+            .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+            .build();
+    }
+}
@@ -1,26 +1,43 @@
 package com.barinventory.service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.barinventory.entity.Bar;
-import com.barinventory.entity.BarProductPrice;
-import com.barinventory.entity.DistributionRecord;
+import com.barinventory.entity.CursorPage;
+import com.barinventory.entity.BarProductPriceDTO;
+import com.barinventory.entity.FixedDecimal;
 import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.InventorySessionDTO;
 import com.barinventory.entity.Product;
+import com.barinventory.entity.ReconciliationResult;
 import com.barinventory.entity.SalesRecord;
+import com.barinventory.entity.SessionCloseRequest;
+import com.barinventory.entity.SessionSnapshot;
 import com.barinventory.entity.StockroomInventory;
+import com.barinventory.entity.StockroomLineDTO;
 import com.barinventory.entity.WellInventory;
-import com.barinventory.enums.DistributionStatus;
+import com.barinventory.entity.WellLineDTO;
+import com.barinventory.enums.SessionInclude;
+import com.barinventory.enums.SessionStage;
 import com.barinventory.enums.SessionStatus;
-import com.barinventory.repository.BarProductPriceRepository;
+import com.barinventory.metrics.SessionMetrics;
 import com.barinventory.repository.BarRepository;
+import com.barinventory.repository.DailySalesRollupRepository;
 import com.barinventory.repository.DistributionRecordRepository;
 import com.barinventory.repository.InventorySessionRepository;
 import com.barinventory.repository.SalesRecordRepository;
@@ -35,19 +52,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class InventorySessionService {
     
+    private static final int VALIDATION_ERRORS_MAX_LENGTH = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final InventorySessionRepository sessionRepository;
     private final StockroomInventoryRepository stockroomRepository;
     private final DistributionRecordRepository distributionRepository;
     private final WellInventoryRepository wellRepository;
     private final SalesRecordRepository salesRepository;
+    private final DailySalesRollupRepository rollupRepository;
     private final BarRepository barRepository;
-    private final BarProductPriceRepository priceRepository;
+    private final PricingService pricingService;
+    private final SessionReconciliationService reconciliationService;
+    private final SessionMetrics sessionMetrics;
     
     /**
      * Initialize a new inventory session for a bar
      */
     @Transactional
-    public InventorySession initializeSession(Long barId, String shiftType, String notes) {
+    public InventorySession initializeSession(Long barId, String shiftType, String notes, boolean carryForward) {
         // Issue 2: Validate input first
         if (barId == null) {
             throw new IllegalArgumentException("Bar ID cannot be null");
@@ -72,13 +95,32 @@ public class InventorySessionService {
             .status(SessionStatus.IN_PROGRESS)
             .shiftType(shiftType)
             .notes(notes)
+            .dirtyProducts(0)
             .stockroomInventories(new ArrayList<>())
             .distributionRecords(new ArrayList<>())
             .wellInventories(new ArrayList<>())
             .salesRecords(new ArrayList<>())
             .build();
 
-        return sessionRepository.save(session);
+        InventorySession saved = sessionRepository.save(session);
+        if (carryForward) {
+            sessionRepository.findFirstByBarBarIdAndStatusOrderBySessionStartTimeDesc(barId, SessionStatus.COMPLETED)
+                .ifPresent(previous -> {
+                    carryForward(saved, previous);
+                    reconciliationService.refresh(saved.getSessionId());
+                });
+        }
+        return saved;
+    }
+    
+    /**
+     * Seed opening stock from a previous session's closing counts, one INSERT...SELECT per table
+     */
+    private void carryForward(InventorySession session, InventorySession previous) {
+        int stockroomRows = stockroomRepository.carryForward(session.getSessionId(), previous.getSessionId());
+        int wellRows = wellRepository.carryForward(session.getSessionId(), previous.getSessionId());
+        log.info("Carried forward {} stockroom and {} well rows from session {} into session {}",
+            stockroomRows, wellRows, previous.getSessionId(), session.getSessionId());
     }
     
     public InventorySession getSession(Long sessionId) {
@@ -91,19 +133,35 @@ public class InventorySessionService {
     public Optional<InventorySession> getSessionById(Long sessionId) {
         return sessionRepository.findByIdWithBar(sessionId);
     }
+    
+    /**
+     * Load a session with all stage rows and their products, one query per table
+     */
+    @Transactional(readOnly = true)
+    public SessionSnapshot getSnapshot(Long sessionId) {
+        InventorySession session = getSession(sessionId);
+        
+        return SessionSnapshot.builder()
+            .session(session)
+            .bar(session.getBar())
+            .stockroom(List.copyOf(stockroomRepository.findBySessionWithProduct(sessionId)))
+            .distributions(List.copyOf(distributionRepository.findBySessionWithProduct(sessionId)))
+            .wells(List.copyOf(wellRepository.findBySessionWithProduct(sessionId)))
+            .sales(List.copyOf(salesRepository.findBySessionWithProduct(sessionId)))
+            .build();
+    }
 
     
     /**
-     * STAGE 1: Save stockroom inventory
+     * STAGE 1: Save stockroom inventory (batched upsert, so a resubmitted form replaces its rows)
      */
     @Transactional
     public void saveStockroomInventory(Long sessionId, List<StockroomInventory> inventories) {
         InventorySession session = getSessionInProgress(sessionId);
         
-        for (StockroomInventory inventory : inventories) {
-            inventory.setSession(session);
-            stockroomRepository.save(inventory);
-        }
+        sessionMetrics.timed(SessionStage.STOCKROOM, session,
+            () -> stockroomRepository.batchUpsert(session.getSessionId(), inventories));
+        reconciliationService.refresh(sessionId, productIds(inventories, StockroomInventory::getProduct));
         
         log.info("Saved {} stockroom inventory records for session {}", inventories.size(), sessionId);
     }
@@ -114,22 +172,10 @@ public class InventorySessionService {
     @Transactional
     public void createDistributionRecords(Long sessionId) {
         InventorySession session = getSessionInProgress(sessionId);
-        List<StockroomInventory> stockroomInventories = stockroomRepository.findBySessionSessionId(sessionId);
         
-        for (StockroomInventory stockroom : stockroomInventories) {
-            if (stockroom.getTransferredOut().compareTo(BigDecimal.ZERO) > 0) {
-                DistributionRecord distribution = DistributionRecord.builder()
-                    .session(session)
-                    .product(stockroom.getProduct())
-                    .quantityFromStockroom(stockroom.getTransferredOut())
-                    .totalAllocated(BigDecimal.ZERO)
-                    .unallocated(stockroom.getTransferredOut())
-                    .status(DistributionStatus.PENDING_ALLOCATION)
-                    .build();
-                
-                distributionRepository.save(distribution);
-            }
-        }
+        sessionMetrics.timed(SessionStage.DISTRIBUTION, session,
+            () -> distributionRepository.upsertFromStockroom(sessionId));
+        reconciliationService.refresh(sessionId);
         
         log.info("Created distribution records for session {}", sessionId);
     }
@@ -141,32 +187,36 @@ public class InventorySessionService {
     public void saveWellInventory(Long sessionId, List<WellInventory> wellInventories) {
         InventorySession session = getSessionInProgress(sessionId);
         
-        for (WellInventory wellInventory : wellInventories) {
-            wellInventory.setSession(session);
-            wellRepository.save(wellInventory);
+        sessionMetrics.timed(SessionStage.WELL_ALLOCATION, session, () -> {
+            AllocationLedger ledger = AllocationLedger.of(distributionRepository.findBySessionSessionId(sessionId));
             
-            // Update distribution record
-            updateDistributionAllocation(sessionId, 
-                wellInventory.getProduct().getProductId(),
-                wellInventory.getReceivedFromDistribution());
-        }
+            // A resubmitted row only allocates the change from what its well already received
+            Map<String, FixedDecimal> previouslyReceived = new HashMap<>();
+            for (WellLineDTO line : wellRepository.findLinesBySessionIds(List.of(sessionId))) {
+                previouslyReceived.put(line.getProductId() + ":" + line.getWellName(),
+                    line.getReceivedFromDistribution());
+            }
+            
+            Map<String, WellInventory> submitted = new LinkedHashMap<>();
+            for (WellInventory wellInventory : wellInventories) {
+                submitted.put(wellKey(wellInventory), wellInventory);
+            }
+            
+            for (Map.Entry<String, WellInventory> entry : submitted.entrySet()) {
+                FixedDecimal received = entry.getValue().getReceivedFromDistribution();
+                FixedDecimal previous = previouslyReceived.getOrDefault(entry.getKey(), FixedDecimal.ZERO);
+                ledger.allocate(entry.getValue().getProduct().getProductId(), received.minus(previous));
+            }
+            
+            wellRepository.batchUpsert(sessionId, submitted.values());
+            distributionRepository.saveAll(ledger.changedRecords());
+            return submitted.size();
+        });
+        reconciliationService.refresh(sessionId, productIds(wellInventories, WellInventory::getProduct));
         
         log.info("Saved {} well inventory records for session {}", wellInventories.size(), sessionId);
     }
     
-    /**
-     * Update distribution record when stock is allocated to wells
-     */
-    private void updateDistributionAllocation(Long sessionId, Long productId, BigDecimal quantity) {
-        DistributionRecord distribution = distributionRepository
-            .findBySessionSessionIdAndProductProductId(sessionId, productId)
-            .orElseThrow(() -> new RuntimeException("Distribution record not found"));
-        
-        BigDecimal newTotal = distribution.getTotalAllocated().add(quantity);
-        distribution.setTotalAllocated(newTotal);
-        distributionRepository.save(distribution);
-    }
-    
     /**
      * FINAL STAGE: Commit session after validations
      */
@@ -174,157 +224,136 @@ public class InventorySessionService {
     public void commitSession(Long sessionId) {
         InventorySession session = getSessionInProgress(sessionId);
         
-        // Perform all validations
-        StringBuilder errors = new StringBuilder();
-        
-        // Validation 1: Stockroom transferred = Distribution total
-        if (!validateStockroomToDistribution(sessionId, errors)) {
-            rollbackSession(sessionId, errors.toString());
-            throw new RuntimeException("Validation failed: " + errors.toString());
-        }
-        
-        // Validation 2: Distribution allocated = Wells received
-        if (!validateDistributionToWells(sessionId, errors)) {
-            rollbackSession(sessionId, errors.toString());
-            throw new RuntimeException("Validation failed: " + errors.toString());
-        }
-        
-        // Validation 3: No unallocated stock in distribution
-        if (!validateNoUnallocatedStock(sessionId, errors)) {
-            rollbackSession(sessionId, errors.toString());
-            throw new RuntimeException("Validation failed: " + errors.toString());
-        }
-        
-        // All validations passed - generate sales and commit
-        generateSalesRecords(sessionId);
-        
-        session.setStatus(SessionStatus.COMPLETED);
-        session.setSessionEndTime(LocalDateTime.now());
-        sessionRepository.save(session);
+        sessionMetrics.timed(SessionStage.COMMIT, session, () -> {
+            // The running summary already counts unbalanced products; only untracked
+            // or dirty sessions need the full pass, which also produces the messages.
+            // The count is read from the row, where only the refresh writes it.
+            Integer dirtyProducts = sessionRepository.findDirtyProductsById(sessionId);
+            if (dirtyProducts == null || dirtyProducts > 0) {
+                ReconciliationResult reconciliation = sessionMetrics.timed(SessionStage.VALIDATION, session,
+                    () -> reconciliationService.reconcile(sessionId),
+                    ReconciliationResult::getProductsChecked);
+                if (!reconciliation.isBalanced()) {
+                    sessionMetrics.recordValidationFailures(session, reconciliation.getDiscrepancies());
+                    String errors = reconciliation.getSummary();
+                    rollbackSession(sessionId, errors);
+                    throw new RuntimeException("Validation failed: " + errors);
+                }
+            }
+            
+            // All validations passed - generate sales and commit
+            return complete(session);
+        });
         
         log.info("Session {} committed successfully", sessionId);
     }
     
     /**
-     * Validation 1: Stockroom transferred must equal distribution total
+     * Close a shift in one transaction: start (or resume) the bar's session,
+     * save stockroom counts, create distribution, save wells, reconcile and
+     * commit. Nothing is kept unless the session balances. A request carrying
+     * the close key of an already committed close changes nothing and gets
+     * that session's reconciliation again.
      */
-    private boolean validateStockroomToDistribution(Long sessionId, StringBuilder errors) {
-        List<StockroomInventory> stockrooms = stockroomRepository.findBySessionSessionId(sessionId);
-        List<DistributionRecord> distributions = distributionRepository.findBySessionSessionId(sessionId);
-        
-        for (StockroomInventory stockroom : stockrooms) {
-            BigDecimal transferred = stockroom.getTransferredOut();
-            
-            DistributionRecord distribution = distributions.stream()
-                .filter(d -> d.getProduct().getProductId().equals(stockroom.getProduct().getProductId()))
-                .findFirst()
-                .orElse(null);
-            
-            if (distribution == null && transferred.compareTo(BigDecimal.ZERO) > 0) {
-                errors.append("Product ").append(stockroom.getProduct().getProductName())
-                    .append(": No distribution record found for transferred stock. ");
-                return false;
-            }
-            
-            if (distribution != null && 
-                transferred.compareTo(distribution.getQuantityFromStockroom()) != 0) {
-                errors.append("Product ").append(stockroom.getProduct().getProductName())
-                    .append(": Stockroom transferred (").append(transferred)
-                    .append(") != Distribution quantity (")
-                    .append(distribution.getQuantityFromStockroom()).append("). ");
-                return false;
+    @Transactional
+    public ReconciliationResult closeSession(SessionCloseRequest request) {
+        if (request.getCloseKey() != null) {
+            Optional<InventorySession> closed = sessionRepository.findByCloseKey(request.getCloseKey());
+            if (closed.isPresent()) {
+                log.info("Close key {} already committed session {}", request.getCloseKey(),
+                    closed.get().getSessionId());
+                return reconciliationService.reconcile(closed.get().getSessionId());
             }
         }
         
-        return true;
-    }
-    
-    /**
-     * Validation 2: Distribution allocated must equal wells received
-     */
-    private boolean validateDistributionToWells(Long sessionId, StringBuilder errors) {
-        List<DistributionRecord> distributions = distributionRepository.findBySessionSessionId(sessionId);
+        InventorySession session = initializeSession(request.getBarId(), request.getShiftType(),
+            request.getNotes(), request.isCarryForward());
+        Long sessionId = session.getSessionId();
         
-        for (DistributionRecord distribution : distributions) {
-            BigDecimal totalWellsReceived = wellRepository.sumReceivedBySessionAndProduct(
-                sessionId, distribution.getProduct().getProductId());
-            
-            if (distribution.getTotalAllocated().compareTo(totalWellsReceived) != 0) {
-                errors.append("Product ").append(distribution.getProduct().getProductName())
-                    .append(": Distribution allocated (").append(distribution.getTotalAllocated())
-                    .append(") != Wells received (").append(totalWellsReceived).append("). ");
-                return false;
-            }
+        saveStockroomInventory(sessionId, request.getStockroom());
+        createDistributionRecords(sessionId);
+        saveWellInventory(sessionId, request.getWells());
+        
+        ReconciliationResult reconciliation = sessionMetrics.timed(SessionStage.VALIDATION, session,
+            () -> reconciliationService.reconcile(sessionId),
+            ReconciliationResult::getProductsChecked);
+        if (!reconciliation.isBalanced()) {
+            sessionMetrics.recordValidationFailures(session, reconciliation.getDiscrepancies());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("Close of session {} discarded: {}", sessionId, reconciliation.getSummary());
+            return reconciliation;
         }
         
-        return true;
+        session.setCloseKey(request.getCloseKey());
+        sessionMetrics.timed(SessionStage.COMMIT, session, () -> complete(session));
+        log.info("Session {} closed successfully", sessionId);
+        return reconciliation;
     }
     
     /**
-     * Validation 3: No stock should remain unallocated
+     * Generate sales, fold them into the rollup and mark the session completed
      */
-    private boolean validateNoUnallocatedStock(Long sessionId, StringBuilder errors) {
-        List<DistributionRecord> distributions = distributionRepository.findBySessionSessionId(sessionId);
-        
-        for (DistributionRecord distribution : distributions) {
-            if (distribution.getUnallocated().compareTo(BigDecimal.ZERO) > 0) {
-                errors.append("Product ").append(distribution.getProduct().getProductName())
-                    .append(": Unallocated stock remaining (")
-                    .append(distribution.getUnallocated()).append(" units). ");
-                return false;
-            }
-        }
+    private int complete(InventorySession session) {
+        int salesRecords = sessionMetrics.timed(SessionStage.SALES_GENERATION, session,
+            () -> generateSalesRecords(session));
+        rollupRepository.addSessionSales(session.getSessionId(), session.getBar().getBarId(),
+            session.getSessionStartTime().toLocalDate());
         
-        return true;
+        session.setStatus(SessionStatus.COMPLETED);
+        session.setSessionEndTime(LocalDateTime.now());
+        sessionRepository.save(session);
+        return salesRecords;
     }
     
     /**
      * Generate sales records from consumed quantities
      */
-    private void generateSalesRecords(Long sessionId) {
-        InventorySession session = sessionRepository.findById(sessionId)
-            .orElseThrow(() -> new RuntimeException("Session not found"));
+    private int generateSalesRecords(InventorySession session) {
+        Long sessionId = session.getSessionId();
+        List<WellInventory> wellInventories = wellRepository.findBySessionWithProduct(sessionId);
         
-        List<WellInventory> wellInventories = wellRepository.findBySessionSessionId(sessionId);
+        // Group by product and sum consumed hundredths in one pass
+        Map<Long, Product> products = new LinkedHashMap<>();
+        Map<Long, long[]> consumedByProduct = new HashMap<>();
+        for (WellInventory well : wellInventories) {
+            Long productId = well.getProduct().getProductId();
+            products.putIfAbsent(productId, well.getProduct());
+            consumedByProduct.computeIfAbsent(productId, id -> new long[1])[0] += well.getConsumed().units();
+        }
         
-        // Group by product and sum consumed
-        wellInventories.stream()
-            .collect(java.util.stream.Collectors.groupingBy(
-                w -> w.getProduct().getProductId(),
-                java.util.stream.Collectors.reducing(
-                    BigDecimal.ZERO,
-                    WellInventory::getConsumed,
-                    BigDecimal::add
-                )))
-            .forEach((productId, totalConsumed) -> {
-                if (totalConsumed.compareTo(BigDecimal.ZERO) > 0) {
-                    Product product = wellInventories.stream()
-                        .filter(w -> w.getProduct().getProductId().equals(productId))
-                        .findFirst()
-                        .get()
-                        .getProduct();
-                    
-                    // Get bar-specific price
-                    BarProductPrice price = priceRepository
-                        .findByBarBarIdAndProductProductId(
-                            session.getBar().getBarId(), productId)
-                        .orElseThrow(() -> new RuntimeException(
-                            "Price not found for product: " + product.getProductName()));
-                    
-                    SalesRecord sales = SalesRecord.builder()
-                        .session(session)
-                        .product(product)
-                        .quantitySold(totalConsumed)
-                        .sellingPricePerUnit(price.getSellingPrice())
-                        .costPricePerUnit(price.getCostPrice() != null ? 
-                            price.getCostPrice() : BigDecimal.ZERO)
-                        .build();
-                    
-                    salesRepository.save(sales);
-                }
-            });
+        // Bar-specific prices, resolved once from the price cache
+        Map<Long, BarProductPriceDTO> pricesByProduct =
+            pricingService.getActivePricesByProduct(session.getBar().getBarId());
+        
+        List<SalesRecord> salesRecords = new ArrayList<>();
+        for (Map.Entry<Long, Product> entry : products.entrySet()) {
+            long totalConsumed = consumedByProduct.get(entry.getKey())[0];
+            if (totalConsumed <= 0) {
+                continue;
+            }
+            
+            Product product = entry.getValue();
+            BarProductPriceDTO price = pricesByProduct.get(entry.getKey());
+            if (price == null) {
+                throw new RuntimeException("Price not found for product: " + product.getProductName());
+            }
+            
+            salesRecords.add(SalesRecord.builder()
+                .session(session)
+                .bar(session.getBar())
+                .businessDate(session.getSessionStartTime().toLocalDate())
+                .product(product)
+                .quantitySold(FixedDecimal.ofUnits(totalConsumed))
+                .sellingPricePerUnit(price.getSellingPrice())
+                .costPricePerUnit(price.getCostPrice() != null ? 
+                    price.getCostPrice() : FixedDecimal.ZERO)
+                .build());
+        }
         
-        log.info("Generated sales records for session {}", sessionId);
+        salesRepository.batchInsert(sessionId, salesRecords);
+        
+        log.info("Generated {} sales records for session {}", salesRecords.size(), sessionId);
+        return salesRecords.size();
     }
     
     /**
@@ -337,7 +366,9 @@ public class InventorySessionService {
         
         session.setStatus(SessionStatus.ROLLED_BACK);
         session.setSessionEndTime(LocalDateTime.now());
-        session.setValidationErrors(errorMessage);
+        session.setValidationErrors(errorMessage != null && errorMessage.length() > VALIDATION_ERRORS_MAX_LENGTH
+            ? errorMessage.substring(0, VALIDATION_ERRORS_MAX_LENGTH)
+            : errorMessage);
         sessionRepository.save(session);
         
         log.error("Session {} rolled back: {}", sessionId, errorMessage);
@@ -357,23 +388,98 @@ public class InventorySessionService {
         return session;
     }
     
+    private static String wellKey(WellInventory well) {
+        return well.getProduct().getProductId() + ":" + well.getWellName();
+    }
+    
+    private static <T> Set<Long> productIds(List<T> rows, Function<T, Product> product) {
+        Set<Long> productIds = new HashSet<>();
+        for (T row : rows) {
+            productIds.add(product.apply(row).getProductId());
+        }
+        return productIds;
+    }
+    
     /**
-     * Get session by ID
+     * Get session by ID as a DTO, with the requested child rows
      */
+    @Transactional(readOnly = true)
+    public InventorySessionDTO getSessionView(Long sessionId, Set<SessionInclude> includes) {
+        InventorySessionDTO session = sessionRepository.findDtoById(sessionId)
+            .orElseThrow(() -> new RuntimeException("Session not found"));
+        attachLines(List.of(session), includes);
+        return session;
+    }
  
     /**
-     * Get all sessions for a bar
+     * Get a page of a bar's sessions, newest first, seeking past the cursor
      */
-    public List<InventorySession> getSessionsByBar(Long barId) {
-        return sessionRepository.findByBarBarIdOrderBySessionStartTimeDesc(barId);
+    @Transactional(readOnly = true)
+    public CursorPage<InventorySessionDTO> getSessionsByBar(Long barId, String cursor, int size,
+                                                            Set<SessionInclude> includes) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to know whether another page exists
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        List<InventorySessionDTO> sessions;
+        if (cursor == null || cursor.isBlank()) {
+            sessions = sessionRepository.findLatestByBar(barId, limit);
+        } else {
+            SessionCursor position = SessionCursor.decode(cursor);
+            sessions = sessionRepository.findByBarBefore(
+                barId, position.sessionStartTime(), position.sessionId(), limit);
+        }
+        
+        String nextCursor = null;
+        if (sessions.size() > pageSize) {
+            sessions = sessions.subList(0, pageSize);
+            nextCursor = SessionCursor.after(sessions.get(pageSize - 1)).encode();
+        }
+        
+        attachLines(sessions, includes);
+        return CursorPage.<InventorySessionDTO>builder()
+            .items(sessions)
+            .nextCursor(nextCursor)
+            .build();
     }
     
     /**
      * Get sessions by date range
      */
-    public List<InventorySession> getSessionsByDateRange(Long barId, 
-                                                         LocalDateTime startDate, 
-                                                         LocalDateTime endDate) {
-        return sessionRepository.findSessionsByBarAndDateRange(barId, startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<InventorySessionDTO> getSessionsByDateRange(Long barId, 
+                                                            LocalDateTime startDate, 
+                                                            LocalDateTime endDate,
+                                                            Set<SessionInclude> includes) {
+        List<InventorySessionDTO> sessions = sessionRepository.findDtosByBarAndDateRange(barId, startDate, endDate);
+        attachLines(sessions, includes);
+        return sessions;
+    }
+    
+    /**
+     * Load each requested child collection for all sessions in one query
+     */
+    private void attachLines(List<InventorySessionDTO> sessions, Set<SessionInclude> includes) {
+        if (sessions.isEmpty() || includes.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, InventorySessionDTO> sessionsById = new LinkedHashMap<>();
+        for (InventorySessionDTO session : sessions) {
+            sessionsById.put(session.getSessionId(), session);
+        }
+        
+        if (includes.contains(SessionInclude.STOCKROOM)) {
+            sessions.forEach(session -> session.setStockroom(new ArrayList<>()));
+            for (StockroomLineDTO line : stockroomRepository.findLinesBySessionIds(sessionsById.keySet())) {
+                sessionsById.get(line.getSessionId()).getStockroom().add(line);
+            }
+        }
+        if (includes.contains(SessionInclude.WELLS)) {
+            sessions.forEach(session -> session.setWells(new ArrayList<>()));
+            for (WellLineDTO line : wellRepository.findLinesBySessionIds(sessionsById.keySet())) {
+                sessionsById.get(line.getSessionId()).getWells().add(line);
+            }
+        }
     }
 }
@@ -2,28 +2,52 @@ package com.barinventory.service;
 
 import com.barinventory.entity.Bar;
 import com.barinventory.entity.BarProductPrice;
+import com.barinventory.entity.BarProductPriceDTO;
 import com.barinventory.entity.Product;
 import com.barinventory.repository.BarProductPriceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PricingService {
     
     private final BarProductPriceRepository priceRepository;
     private final BarService barService;
     private final ProductService productService;
+    private final Cache<Long, Map<Long, BarProductPriceDTO>> priceCache;
     
-    public List<BarProductPrice> getPricesByBar(Long barId) {
-        return priceRepository.findByBarBarIdAndActiveTrue(barId);
+    public List<BarProductPriceDTO> getPricesByBar(Long barId) {
+        return List.copyOf(getActivePricesByProduct(barId).values());
     }
     
-    public BarProductPrice getPrice(Long barId, Long productId) {
-        return priceRepository.findByBarBarIdAndProductProductId(barId, productId)
+    /**
+     * Active prices for a bar keyed by productId, served from the price cache
+     */
+    public Map<Long, BarProductPriceDTO> getActivePricesByProduct(Long barId) {
+        return priceCache.get(barId, this::loadActivePrices);
+    }
+    
+    public BarProductPriceDTO getPrice(Long barId, Long productId) {
+        BarProductPriceDTO price = getActivePricesByProduct(barId).get(productId);
+        if (price != null) {
+            return price;
+        }
+        // Inactive prices are not cached
+        return priceRepository.findLineByBarAndProduct(barId, productId)
             .orElseThrow(() -> new RuntimeException("Price not configured for this product"));
     }
     
@@ -43,7 +67,9 @@ public class PricingService {
         price.setCostPrice(priceDetails.getCostPrice());
         price.setActive(true);
         
-        return priceRepository.save(price);
+        BarProductPrice saved = priceRepository.save(price);
+        invalidate(barId);
+        return saved;
     }
     
     @Transactional
@@ -52,5 +78,42 @@ public class PricingService {
             .orElseThrow(() -> new RuntimeException("Price not found"));
         price.setActive(false);
         priceRepository.save(price);
+        invalidate(price.getBar().getBarId());
+    }
+    
+    /**
+     * Warm the price cache for every active bar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCache() {
+        List<Bar> bars = barService.getAllActiveBars();
+        for (Bar bar : bars) {
+            getActivePricesByProduct(bar.getBarId());
+        }
+        log.info("Warmed price cache for {} bars", bars.size());
+    }
+    
+    private Map<Long, BarProductPriceDTO> loadActivePrices(Long barId) {
+        Map<Long, BarProductPriceDTO> prices = new LinkedHashMap<>();
+        for (BarProductPriceDTO price : priceRepository.findActiveLinesByBar(barId)) {
+            prices.put(price.getProductId(), price);
+        }
+        return Collections.unmodifiableMap(prices);
+    }
+    
+    /**
+     * Drop a bar's prices now and again once the writing transaction commits,
+     * so a concurrent read cannot re-cache the pre-commit rows
+     */
+    private void invalidate(Long barId) {
+        priceCache.invalidate(barId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    priceCache.invalidate(barId);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,39 @@
+package com.barinventory.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.barinventory.entity.Product;
+
+import lombok.Getter;
+
+/**
+ * Immutable, versioned snapshot of the active product catalog
+ */
+@Getter
+public final class ProductCatalog {
+
+    private final long version;
+    private final List<Product> products;
+    private final Map<Long, Product> productsById;
+
+    ProductCatalog(long version, List<Product> products) {
+        Map<Long, Product> byId = new LinkedHashMap<>();
+        for (Product product : products) {
+            byId.put(product.getProductId(), product);
+        }
+        this.version = version;
+        this.products = List.copyOf(products);
+        this.productsById = Collections.unmodifiableMap(byId);
+    }
+
+    public Product getProduct(Long productId) {
+        return productsById.get(productId);
+    }
+
+    public int size() {
+        return products.size();
+    }
+}
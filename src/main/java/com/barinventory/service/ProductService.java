@@ -3,19 +3,38 @@ package com.barinventory.service;
 import com.barinventory.entity.Product;
 import com.barinventory.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ProductService {
     
     private final ProductRepository productRepository;
     
+    private volatile ProductCatalog activeCatalog;
+    
+    /**
+     * Active products from the in-memory catalog snapshot
+     */
     public List<Product> getAllActiveProducts() {
-        return productRepository.findByActiveTrue();
+        return getActiveCatalog().getProducts();
+    }
+    
+    /**
+     * Current catalog snapshot; rebuilt only when a product is written
+     */
+    public ProductCatalog getActiveCatalog() {
+        ProductCatalog catalog = activeCatalog;
+        return catalog != null ? catalog : refreshCatalog();
     }
     
     public Product getProductById(Long productId) {
@@ -32,7 +51,9 @@ public class ProductService {
         if (productRepository.existsByProductName(product.getProductName())) {
             throw new RuntimeException("Product with this name already exists");
         }
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        refreshCatalogAfterCommit();
+        return saved;
     }
     
     @Transactional
@@ -43,7 +64,9 @@ public class ProductService {
         product.setBrand(productDetails.getBrand());
         product.setVolumeML(productDetails.getVolumeML());
         product.setUnit(productDetails.getUnit());
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        refreshCatalogAfterCommit();
+        return saved;
     }
     
     @Transactional
@@ -51,5 +74,35 @@ public class ProductService {
         Product product = getProductById(productId);
         product.setActive(false);
         productRepository.save(product);
+        refreshCatalogAfterCommit();
+    }
+    
+    /**
+     * Build the catalog snapshot on startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCatalog() {
+        ProductCatalog catalog = refreshCatalog();
+        log.info("Loaded active product catalog v{} with {} products", catalog.getVersion(), catalog.size());
+    }
+    
+    private synchronized ProductCatalog refreshCatalog() {
+        long nextVersion = activeCatalog != null ? activeCatalog.getVersion() + 1 : 1;
+        ProductCatalog catalog = new ProductCatalog(nextVersion, productRepository.findByActiveTrue());
+        activeCatalog = catalog;
+        return catalog;
+    }
+    
+    private void refreshCatalogAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshCatalog();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshCatalog();
+            }
+        });
     }
 }
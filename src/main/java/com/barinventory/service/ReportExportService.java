@@ -0,0 +1,170 @@
+package com.barinventory.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.barinventory.entity.InventorySession;
+import com.barinventory.entity.SalesRecord;
+import com.barinventory.enums.ExportFormat;
+import com.barinventory.repository.InventorySessionRepository;
+import com.barinventory.repository.SalesRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams sales and audit data straight to an output stream as rows
+ * arrive from the database cursor, so memory stays flat for any range.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<String> SALES_COLUMNS = List.of(
+        "sessionId", "sessionStartTime", "productId", "productName", "quantitySold",
+        "sellingPricePerUnit", "totalRevenue", "costPricePerUnit", "totalCost", "profit");
+
+    private static final List<String> AUDIT_COLUMNS = List.of(
+        "sessionId", "barId", "barName", "sessionStartTime", "sessionEndTime",
+        "status", "shiftType", "notes", "validationErrors");
+
+    private final SalesRecordRepository salesRepository;
+    private final InventorySessionRepository sessionRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Export sales records for a date range. Sales are keyed by business date,
+     * so both bounds must be at midnight and the end date is exclusive, as in
+     * the sales reports.
+     */
+    @Transactional(readOnly = true)
+    public long exportSales(Long barId, LocalDateTime startDate, LocalDateTime endDate,
+                            ExportFormat format, OutputStream out) {
+        ReportService.requireMidnight(startDate, "startDate");
+        ReportService.requireMidnight(endDate, "endDate");
+        try (Stream<SalesRecord> sales = salesRepository.streamSalesByBarAndDateRange(barId,
+                startDate.toLocalDate(), endDate.toLocalDate())) {
+            long rows = write(sales.iterator(), SALES_COLUMNS, this::salesRow, format, out);
+            log.info("Exported {} sales records for bar {} as {}", rows, barId, format);
+            return rows;
+        }
+    }
+
+    /**
+     * Export the session audit trail for sessions started in [startDate, endDate)
+     */
+    @Transactional(readOnly = true)
+    public long exportAuditTrail(Long barId, LocalDateTime startDate, LocalDateTime endDate,
+                                 ExportFormat format, OutputStream out) {
+        try (Stream<InventorySession> sessions = sessionRepository.streamSessionsByBarAndDateRange(barId, startDate, endDate)) {
+            long rows = write(sessions.iterator(), AUDIT_COLUMNS, this::auditRow, format, out);
+            log.info("Exported {} audit sessions for bar {} as {}", rows, barId, format);
+            return rows;
+        }
+    }
+
+    private <T> long write(Iterator<T> rows, List<String> columns, Function<T, Map<String, Object>> mapper,
+                           ExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(String.join(",", columns));
+                writer.write('\n');
+            }
+            while (rows.hasNext()) {
+                Map<String, Object> row = mapper.apply(rows.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                // Release exported entities and push the chunk to the client
+                if (++count % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize export row", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private Map<String, Object> salesRow(SalesRecord sales) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("sessionId", sales.getSession().getSessionId());
+        row.put("sessionStartTime", sales.getSession().getSessionStartTime().toString());
+        row.put("productId", sales.getProduct().getProductId());
+        row.put("productName", sales.getProduct().getProductName());
+        row.put("quantitySold", sales.getQuantitySold());
+        row.put("sellingPricePerUnit", sales.getSellingPricePerUnit());
+        row.put("totalRevenue", sales.getTotalRevenue());
+        row.put("costPricePerUnit", sales.getCostPricePerUnit());
+        row.put("totalCost", sales.getTotalCost());
+        row.put("profit", sales.getProfit());
+        return row;
+    }
+
+    private Map<String, Object> auditRow(InventorySession session) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("sessionId", session.getSessionId());
+        row.put("barId", session.getBar().getBarId());
+        row.put("barName", session.getBar().getBarName());
+        row.put("sessionStartTime", session.getSessionStartTime().toString());
+        row.put("sessionEndTime", session.getSessionEndTime() != null ? session.getSessionEndTime().toString() : null);
+        row.put("status", session.getStatus());
+        row.put("shiftType", session.getShiftType());
+        row.put("notes", session.getNotes());
+        row.put("validationErrors", session.getValidationErrors());
+        return row;
+    }
+
+    private void writeCsvLine(Writer writer, Map<String, Object> row) throws IOException {
+        boolean first = true;
+        for (Object value : row.values()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            if (value != null) {
+                writer.write(csvEscape(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
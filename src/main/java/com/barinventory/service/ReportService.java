@@ -1,14 +1,20 @@
 package com.barinventory.service;
 
+import com.barinventory.entity.FixedDecimal;
 import com.barinventory.entity.InventorySession;
 import com.barinventory.entity.SalesRecord;
+import com.barinventory.repository.DailySalesRollupRepository;
+import com.barinventory.repository.DailySalesTotal;
+import com.barinventory.repository.ProductSalesTotal;
 import com.barinventory.repository.SalesRecordRepository;
 import com.barinventory.repository.InventorySessionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -19,20 +25,21 @@ public class ReportService {
     
     private final SalesRecordRepository salesRepository;
     private final InventorySessionRepository sessionRepository;
+    private final DailySalesRollupRepository rollupRepository;
     
     /**
      * Get total sales for a session
      */
-    public BigDecimal getSessionTotalSales(Long sessionId) {
-        return salesRepository.getTotalRevenueBySession(sessionId);
+    public FixedDecimal getSessionTotalSales(Long sessionId) {
+        return FixedDecimal.of(salesRepository.getTotalRevenueBySession(sessionId));
     }
     
     /**
-     * Get sales records for a date range
+     * Get sales records between two business dates, inclusive
      */
     public List<SalesRecord> getSalesByDateRange(Long barId, 
-                                                 LocalDateTime startDate, 
-                                                 LocalDateTime endDate) {
+                                                 LocalDate startDate, 
+                                                 LocalDate endDate) {
         return salesRepository.findSalesByBarAndDateRange(barId, startDate, endDate);
     }
     
@@ -40,75 +47,76 @@ public class ReportService {
      * Get daily sales report
      */
     public Map<String, Object> getDailySalesReport(Long barId, LocalDateTime date) {
-        LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
+        LocalDate businessDate = date.toLocalDate();
+        List<SalesRecord> sales = getSalesByDateRange(barId, businessDate, businessDate);
         
-        List<SalesRecord> sales = getSalesByDateRange(barId, startOfDay, endOfDay);
-        
-        BigDecimal totalRevenue = sales.stream()
-            .map(SalesRecord::getTotalRevenue)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalCost = sales.stream()
-            .map(SalesRecord::getTotalCost)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalProfit = totalRevenue.subtract(totalCost);
+        // Sum hundredths on primitives, one value object per total
+        long totalRevenue = 0;
+        long totalCost = 0;
+        for (SalesRecord sale : sales) {
+            totalRevenue = Math.addExact(totalRevenue, sale.getTotalRevenue().units());
+            if (sale.getTotalCost() != null) {
+                totalCost = Math.addExact(totalCost, sale.getTotalCost().units());
+            }
+        }
         
         return Map.of(
             "date", date,
             "salesRecords", sales,
-            "totalRevenue", totalRevenue,
-            "totalCost", totalCost,
-            "totalProfit", totalProfit
+            "totalRevenue", FixedDecimal.ofUnits(totalRevenue),
+            "totalCost", FixedDecimal.ofUnits(totalCost),
+            "totalProfit", FixedDecimal.ofUnits(totalRevenue - totalCost)
         );
     }
     
     /**
-     * Get weekly sales report
+     * Get weekly sales report (from the daily rollup).
+     * 'salesRecords' holds one total per business day.
      */
     public Map<String, Object> getWeeklySalesReport(Long barId, LocalDateTime weekStart) {
         LocalDateTime weekEnd = weekStart.plusDays(7);
-        List<SalesRecord> sales = getSalesByDateRange(barId, weekStart, weekEnd);
+        List<DailySalesTotal> dailySales = rollupRepository.sumByDay(
+            barId, firstBusinessDate(weekStart), lastBusinessDate(weekEnd));
         
-        BigDecimal totalRevenue = sales.stream()
-            .map(SalesRecord::getTotalRevenue)
+        BigDecimal totalRevenue = dailySales.stream()
+            .map(DailySalesTotal::getTotalRevenue)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         return Map.of(
             "weekStart", weekStart,
             "weekEnd", weekEnd,
-            "salesRecords", sales,
+            "salesRecords", dailySales,
             "totalRevenue", totalRevenue
         );
     }
     
     /**
-     * Get monthly sales report
+     * Get monthly sales report (from the daily rollup).
+     * 'salesRecords' holds one total per business day.
      */
     public Map<String, Object> getMonthlySalesReport(Long barId, int year, int month) {
         LocalDateTime monthStart = LocalDateTime.of(year, month, 1, 0, 0);
         LocalDateTime monthEnd = monthStart.plusMonths(1);
+        LocalDate firstDay = monthStart.toLocalDate();
+        LocalDate lastDay = lastBusinessDate(monthEnd);
         
-        List<SalesRecord> sales = getSalesByDateRange(barId, monthStart, monthEnd);
+        List<DailySalesTotal> dailySales = rollupRepository.sumByDay(barId, firstDay, lastDay);
         
-        BigDecimal totalRevenue = sales.stream()
-            .map(SalesRecord::getTotalRevenue)
+        BigDecimal totalRevenue = dailySales.stream()
+            .map(DailySalesTotal::getTotalRevenue)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         // Group by product
-        Map<String, BigDecimal> productWiseSales = sales.stream()
-            .collect(Collectors.groupingBy(
-                s -> s.getProduct().getProductName(),
-                Collectors.reducing(BigDecimal.ZERO,
-                    SalesRecord::getTotalRevenue,
-                    BigDecimal::add)
-            ));
+        Map<String, BigDecimal> productWiseSales = rollupRepository.sumByProduct(barId, firstDay, lastDay)
+            .stream()
+            .collect(Collectors.toMap(
+                ProductSalesTotal::getProductName,
+                ProductSalesTotal::getTotalRevenue));
         
         return Map.of(
             "year", year,
             "month", month,
-            "salesRecords", sales,
+            "salesRecords", dailySales,
             "totalRevenue", totalRevenue,
             "productWiseSales", productWiseSales
         );
@@ -124,30 +132,47 @@ public class ReportService {
     }
     
     /**
-     * Get product-wise sales summary
+     * Get product-wise sales summary (from the daily rollup).
+     * Both bounds must be at midnight; the end bound is exclusive.
      */
     public Map<String, Object> getProductWiseSummary(Long barId, 
                                                     LocalDateTime startDate, 
                                                     LocalDateTime endDate) {
-        List<SalesRecord> sales = getSalesByDateRange(barId, startDate, endDate);
-        
-        Map<String, Map<String, Object>> productSummary = sales.stream()
-            .collect(Collectors.groupingBy(
-                s -> s.getProduct().getProductName(),
-                Collectors.collectingAndThen(
-                    Collectors.toList(),
-                    list -> Map.of(
-                        "totalQuantity", list.stream()
-                            .map(SalesRecord::getQuantitySold)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add),
-                        "totalRevenue", list.stream()
-                            .map(SalesRecord::getTotalRevenue)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add),
-                        "count", list.size()
-                    )
+        Map<String, Map<String, Object>> productSummary = rollupRepository
+            .sumByProduct(barId, firstBusinessDate(startDate), lastBusinessDate(endDate))
+            .stream()
+            .collect(Collectors.toMap(
+                ProductSalesTotal::getProductName,
+                total -> Map.of(
+                    "totalQuantity", total.getTotalQuantity(),
+                    "totalRevenue", total.getTotalRevenue(),
+                    "count", total.getSalesCount().intValue()
                 )
             ));
         
         return Map.of("productSummary", productSummary);
     }
+    
+    /**
+     * First business date of a range. The rollup holds whole days, so a
+     * start bound that is not at midnight is rejected rather than rounded.
+     */
+    private LocalDate firstBusinessDate(LocalDateTime startDate) {
+        requireMidnight(startDate, "startDate");
+        return startDate.toLocalDate();
+    }
+    
+    /**
+     * Last business date covered by an exclusive end bound at midnight
+     */
+    private LocalDate lastBusinessDate(LocalDateTime endDate) {
+        requireMidnight(endDate, "endDate");
+        return endDate.toLocalDate().minusDays(1);
+    }
+    
+    static void requireMidnight(LocalDateTime bound, String name) {
+        if (!bound.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            throw new IllegalArgumentException(name + " must be at midnight (whole business days): " + bound);
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.barinventory.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.barinventory.entity.InventorySessionDTO;
+
+/**
+ * Opaque seek position (sessionStartTime, sessionId) in a bar's session history
+ */
+record SessionCursor(LocalDateTime sessionStartTime, Long sessionId) {
+
+    static SessionCursor after(InventorySessionDTO session) {
+        return new SessionCursor(session.getSessionStartTime(), session.getSessionId());
+    }
+
+    static SessionCursor decode(String token) {
+        SessionCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            cursor = new SessionCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid session cursor");
+        }
+        if (cursor.sessionId() <= 0) {
+            throw new InvalidCursorException("Invalid session cursor");
+        }
+        return cursor;
+    }
+
+    String encode() {
+        String raw = sessionStartTime + "|" + sessionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+package com.barinventory.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.ReconciliationDiscrepancy;
+import com.barinventory.entity.ReconciliationResult;
+import com.barinventory.entity.SessionProductReconciliation;
+import com.barinventory.enums.ReconciliationCheck;
+import com.barinventory.repository.DistributionRecordRepository;
+import com.barinventory.repository.DistributionTotal;
+import com.barinventory.repository.ProductQuantityTotal;
+import com.barinventory.repository.SessionProductReconciliationRepository;
+import com.barinventory.repository.StockroomInventoryRepository;
+import com.barinventory.repository.WellInventoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based reconciliation of stockroom, distribution and well totals.
+ * Loads one grouped aggregate per table and hash-joins them by product,
+ * so the query count does not depend on the number of products.
+ * A per-product summary with a dirty product count on the session is kept
+ * current after each stage save, refreshing only the products the save
+ * touched, so commit can skip the full pass.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionReconciliationService {
+
+    private final StockroomInventoryRepository stockroomRepository;
+    private final DistributionRecordRepository distributionRepository;
+    private final WellInventoryRepository wellRepository;
+    private final SessionProductReconciliationRepository summaryRepository;
+
+    /**
+     * Reconcile a session and collect every discrepancy
+     */
+    @Transactional(readOnly = true)
+    public ReconciliationResult reconcile(Long sessionId) {
+        Map<Long, ProductLine> lines = new LinkedHashMap<>();
+
+        for (ProductQuantityTotal stockroom : stockroomRepository.sumTransferredBySessionGroupByProduct(sessionId)) {
+            line(lines, stockroom.getProductId(), stockroom.getProductName()).transferred = stockroom.getTotal();
+        }
+        for (DistributionTotal distribution : distributionRepository.sumBySessionGroupByProduct(sessionId)) {
+            line(lines, distribution.getProductId(), distribution.getProductName()).distribution = distribution;
+        }
+        for (ProductQuantityTotal well : wellRepository.sumReceivedBySessionGroupByProduct(sessionId)) {
+            line(lines, well.getProductId(), well.getProductName()).wellsReceived = well.getTotal();
+        }
+
+        List<ReconciliationDiscrepancy> discrepancies = new ArrayList<>();
+        for (ProductLine line : lines.values()) {
+            line.check(discrepancies);
+        }
+
+        return ReconciliationResult.builder()
+            .sessionId(sessionId)
+            .productsChecked(lines.size())
+            .discrepancies(discrepancies)
+            .build();
+    }
+
+    /**
+     * Recompute the session's per-product summary and dirty product count
+     */
+    @Transactional
+    public void refresh(Long sessionId) {
+        summaryRepository.refreshSession(sessionId);
+        summaryRepository.updateDirtyProducts(sessionId);
+    }
+    
+    /**
+     * Recompute the summary of the products a save touched, then the dirty product count
+     */
+    @Transactional
+    public void refresh(Long sessionId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        summaryRepository.refreshProducts(sessionId, productIds);
+        summaryRepository.updateDirtyProducts(sessionId);
+    }
+    
+    /**
+     * Running per-product totals, optionally only the unbalanced products
+     */
+    @Transactional(readOnly = true)
+    public List<SessionProductReconciliation> getProductSummary(Long sessionId, boolean mismatchesOnly) {
+        List<SessionProductReconciliation> summary = summaryRepository.findBySessionWithProduct(sessionId);
+        if (!mismatchesOnly) {
+            return summary;
+        }
+        return summary.stream()
+            .filter(line -> !line.isBalanced())
+            .toList();
+    }
+
+    private ProductLine line(Map<Long, ProductLine> lines, Long productId, String productName) {
+        return lines.computeIfAbsent(productId, id -> new ProductLine(id, productName));
+    }
+
+    /**
+     * Joined per-product totals across the three stages
+     */
+    private static final class ProductLine {
+
+        private final Long productId;
+        private final String productName;
+        private FixedDecimal transferred;
+        private DistributionTotal distribution;
+        private FixedDecimal wellsReceived = FixedDecimal.ZERO;
+
+        private ProductLine(Long productId, String productName) {
+            this.productId = productId;
+            this.productName = productName;
+        }
+
+        private void check(List<ReconciliationDiscrepancy> discrepancies) {
+            // Validation 1: Stockroom transferred = Distribution total
+            if (transferred != null) {
+                if (distribution == null && transferred.isPositive()) {
+                    add(discrepancies, ReconciliationCheck.STOCKROOM_TO_DISTRIBUTION,
+                        "Product " + productName + ": No distribution record found for transferred stock.");
+                } else if (distribution != null
+                        && !transferred.equals(distribution.getQuantityFromStockroom())) {
+                    add(discrepancies, ReconciliationCheck.STOCKROOM_TO_DISTRIBUTION,
+                        "Product " + productName + ": Stockroom transferred (" + transferred
+                            + ") != Distribution quantity (" + distribution.getQuantityFromStockroom() + ").");
+                }
+            }
+
+            if (distribution == null) {
+                return;
+            }
+
+            // Validation 2: Distribution allocated = Wells received
+            if (!distribution.getTotalAllocated().equals(wellsReceived)) {
+                add(discrepancies, ReconciliationCheck.DISTRIBUTION_TO_WELLS,
+                    "Product " + productName + ": Distribution allocated (" + distribution.getTotalAllocated()
+                        + ") != Wells received (" + wellsReceived + ").");
+            }
+
+            // Validation 3: No unallocated stock in distribution
+            if (distribution.getUnallocated().isPositive()) {
+                add(discrepancies, ReconciliationCheck.UNALLOCATED_STOCK,
+                    "Product " + productName + ": Unallocated stock remaining ("
+                        + distribution.getUnallocated() + " units).");
+            }
+        }
+
+        private void add(List<ReconciliationDiscrepancy> discrepancies, ReconciliationCheck check, String message) {
+            discrepancies.add(ReconciliationDiscrepancy.builder()
+                .productId(productId)
+                .productName(productName)
+                .check(check)
+                .message(message)
+                .build());
+        }
+    }
+}
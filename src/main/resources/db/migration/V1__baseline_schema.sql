@@ -0,0 +1,109 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE bars (
+    bar_id BIGINT NOT NULL AUTO_INCREMENT,
+    bar_name VARCHAR(100) NOT NULL,
+    location VARCHAR(200),
+    owner_name VARCHAR(100),
+    contact_number VARCHAR(20),
+    active BIT NOT NULL,
+    PRIMARY KEY (bar_id),
+    CONSTRAINT UK_4wtl3uatiehfqgjejfype04r4 UNIQUE (bar_name)
+) ENGINE=InnoDB;
+
+CREATE TABLE products (
+    product_id BIGINT NOT NULL AUTO_INCREMENT,
+    product_name VARCHAR(100) NOT NULL,
+    category VARCHAR(50),
+    brand VARCHAR(50),
+    volumeml DECIMAL(10,2),
+    unit VARCHAR(20),
+    active BIT NOT NULL,
+    PRIMARY KEY (product_id),
+    CONSTRAINT UK_f55t6sm19p5lrihq24a6knota UNIQUE (product_name)
+) ENGINE=InnoDB;
+
+CREATE TABLE bar_product_prices (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    bar_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    selling_price DECIMAL(10,2) NOT NULL,
+    cost_price DECIMAL(10,2),
+    active BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKrf3xadvfoedqxrce4apshxjk5 UNIQUE (bar_id, product_id),
+    CONSTRAINT FK66un7d462jxtfy4155gikt4yn FOREIGN KEY (bar_id) REFERENCES bars (bar_id),
+    CONSTRAINT FKcvu68nr13r7j5mrv98mt0ok6m FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE inventory_sessions (
+    session_id BIGINT NOT NULL AUTO_INCREMENT,
+    bar_id BIGINT NOT NULL,
+    session_start_time DATETIME(6) NOT NULL,
+    session_end_time DATETIME(6),
+    status ENUM('IN_PROGRESS','COMPLETED','ROLLED_BACK') NOT NULL,
+    shift_type VARCHAR(20),
+    notes VARCHAR(500),
+    validation_errors VARCHAR(1000),
+    PRIMARY KEY (session_id),
+    CONSTRAINT FKawu4qgef9vr02jq321pe9x4p8 FOREIGN KEY (bar_id) REFERENCES bars (bar_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE stockroom_inventory (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    session_id BIGINT,
+    product_id BIGINT NOT NULL,
+    opening_stock DECIMAL(10,2) NOT NULL,
+    received_stock DECIMAL(10,2) NOT NULL,
+    closing_stock DECIMAL(10,2) NOT NULL,
+    transferred_out DECIMAL(10,2) NOT NULL,
+    remarks VARCHAR(200),
+    PRIMARY KEY (id),
+    CONSTRAINT FK6mhd49msinoto6fq92qxll7qn FOREIGN KEY (session_id) REFERENCES inventory_sessions (session_id),
+    CONSTRAINT FKecxrihjrgqqi45jeu7otx8nbu FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE distribution_records (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    session_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity_from_stockroom DECIMAL(10,2) NOT NULL,
+    total_allocated DECIMAL(10,2) NOT NULL,
+    unallocated DECIMAL(10,2) NOT NULL,
+    status ENUM('PENDING_ALLOCATION','ALLOCATED','COMPLETED') NOT NULL,
+    notes VARCHAR(200),
+    PRIMARY KEY (id),
+    CONSTRAINT FK71kmpnw1ay6d1feqnr3m66bq FOREIGN KEY (session_id) REFERENCES inventory_sessions (session_id),
+    CONSTRAINT FKd8qtmmdag3m8xvg6wbhlux1wu FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE well_inventory (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    session_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    well_name VARCHAR(50) NOT NULL,
+    opening_stock DECIMAL(10,2) NOT NULL,
+    received_from_distribution DECIMAL(10,2) NOT NULL,
+    closing_stock DECIMAL(10,2) NOT NULL,
+    consumed DECIMAL(10,2) NOT NULL,
+    remarks VARCHAR(200),
+    PRIMARY KEY (id),
+    CONSTRAINT FKtbe266i7xfah7u9i5xmhunalx FOREIGN KEY (session_id) REFERENCES inventory_sessions (session_id),
+    CONSTRAINT FKric1cif35b97egay6bssivhm4 FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE sales_records (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    session_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity_sold DECIMAL(10,2) NOT NULL,
+    selling_price_per_unit DECIMAL(10,2) NOT NULL,
+    total_revenue DECIMAL(10,2) NOT NULL,
+    cost_price_per_unit DECIMAL(10,2),
+    total_cost DECIMAL(10,2),
+    profit DECIMAL(10,2),
+    PRIMARY KEY (id),
+    CONSTRAINT FKc1cnuia486p7rqrrckqp8g6po FOREIGN KEY (session_id) REFERENCES inventory_sessions (session_id),
+    CONSTRAINT FKpkv8ya6tboal4j5bphgnubjlg FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,12 @@
+-- Composite indexes for the per-session, per-product lookups and aggregates
+-- (findBySessionSessionIdAndProductProductId, the GROUP BY product_id sums
+-- and the reconciliation refresh).
+CREATE INDEX idx_stockroom_session_product ON stockroom_inventory (session_id, product_id);
+CREATE INDEX idx_distribution_session_product ON distribution_records (session_id, product_id);
+CREATE INDEX idx_well_session_product_well ON well_inventory (session_id, product_id, well_name);
+
+-- Sales rows per session grouped by product (rollup fold, sales reports)
+CREATE INDEX idx_sales_session_product ON sales_records (session_id, product_id);
+
+-- findFirstByBarBarIdAndStatusOrderBySessionStartTimeDesc and findByBarBarIdAndStatus
+CREATE INDEX idx_sessions_bar_status_start ON inventory_sessions (bar_id, status, session_start_time);
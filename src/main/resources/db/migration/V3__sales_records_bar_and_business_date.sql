@@ -0,0 +1,15 @@
+-- Stamp each sale with its session's bar and business date (date of the
+-- session start) so bar/date reports range-scan sales_records alone.
+ALTER TABLE sales_records ADD COLUMN bar_id BIGINT NULL;
+ALTER TABLE sales_records ADD COLUMN business_date DATE NULL;
+
+UPDATE sales_records s
+SET bar_id = (SELECT i.bar_id FROM inventory_sessions i WHERE i.session_id = s.session_id),
+    business_date = (SELECT CAST(i.session_start_time AS DATE) FROM inventory_sessions i
+                     WHERE i.session_id = s.session_id);
+
+ALTER TABLE sales_records MODIFY COLUMN bar_id BIGINT NOT NULL;
+ALTER TABLE sales_records MODIFY COLUMN business_date DATE NOT NULL;
+ALTER TABLE sales_records ADD CONSTRAINT fk_sales_records_bar FOREIGN KEY (bar_id) REFERENCES bars (bar_id);
+
+CREATE INDEX idx_sales_bar_date ON sales_records (bar_id, business_date, session_id);
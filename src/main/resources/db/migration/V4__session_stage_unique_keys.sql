@@ -0,0 +1,103 @@
+-- One stockroom row and one distribution record per (session, product), and
+-- one well row per (session, product, well), so resubmitted forms upsert in
+-- place. Earlier resubmissions left duplicates.
+--
+-- Completed sessions were reconciled and turned into sales over all of their
+-- rows, so their duplicates are merged into the latest row: quantities are
+-- summed (each row's derived column stays consistent, as it is linear in the
+-- others) and remarks are joined, cut to the column's 200 characters.
+CREATE TABLE stockroom_inventory_merge (
+    id BIGINT NOT NULL PRIMARY KEY,
+    opening_stock DECIMAL(10,2) NOT NULL,
+    received_stock DECIMAL(10,2) NOT NULL,
+    closing_stock DECIMAL(10,2) NOT NULL,
+    transferred_out DECIMAL(10,2) NOT NULL,
+    remarks VARCHAR(200)
+);
+INSERT INTO stockroom_inventory_merge (id, opening_stock, received_stock, closing_stock, transferred_out, remarks)
+SELECT MAX(s.id), SUM(s.opening_stock), SUM(s.received_stock), SUM(s.closing_stock), SUM(s.transferred_out),
+       SUBSTRING(GROUP_CONCAT(s.remarks ORDER BY s.id SEPARATOR '; '), 1, 200)
+FROM stockroom_inventory s
+JOIN inventory_sessions i ON i.session_id = s.session_id
+WHERE i.status = 'COMPLETED'
+GROUP BY s.session_id, s.product_id
+HAVING COUNT(*) > 1;
+UPDATE stockroom_inventory SET
+    opening_stock = (SELECT m.opening_stock FROM stockroom_inventory_merge m WHERE m.id = stockroom_inventory.id),
+    received_stock = (SELECT m.received_stock FROM stockroom_inventory_merge m WHERE m.id = stockroom_inventory.id),
+    closing_stock = (SELECT m.closing_stock FROM stockroom_inventory_merge m WHERE m.id = stockroom_inventory.id),
+    transferred_out = (SELECT m.transferred_out FROM stockroom_inventory_merge m WHERE m.id = stockroom_inventory.id),
+    remarks = (SELECT m.remarks FROM stockroom_inventory_merge m WHERE m.id = stockroom_inventory.id)
+WHERE id IN (SELECT id FROM stockroom_inventory_merge);
+DROP TABLE stockroom_inventory_merge;
+
+CREATE TABLE distribution_records_merge (
+    id BIGINT NOT NULL PRIMARY KEY,
+    quantity_from_stockroom DECIMAL(10,2) NOT NULL,
+    total_allocated DECIMAL(10,2) NOT NULL,
+    unallocated DECIMAL(10,2) NOT NULL,
+    notes VARCHAR(200)
+);
+INSERT INTO distribution_records_merge (id, quantity_from_stockroom, total_allocated, unallocated, notes)
+SELECT MAX(d.id), SUM(d.quantity_from_stockroom), SUM(d.total_allocated), SUM(d.unallocated),
+       SUBSTRING(GROUP_CONCAT(d.notes ORDER BY d.id SEPARATOR '; '), 1, 200)
+FROM distribution_records d
+JOIN inventory_sessions i ON i.session_id = d.session_id
+WHERE i.status = 'COMPLETED'
+GROUP BY d.session_id, d.product_id
+HAVING COUNT(*) > 1;
+UPDATE distribution_records SET
+    quantity_from_stockroom = (SELECT m.quantity_from_stockroom FROM distribution_records_merge m
+                               WHERE m.id = distribution_records.id),
+    total_allocated = (SELECT m.total_allocated FROM distribution_records_merge m WHERE m.id = distribution_records.id),
+    unallocated = (SELECT m.unallocated FROM distribution_records_merge m WHERE m.id = distribution_records.id),
+    notes = (SELECT m.notes FROM distribution_records_merge m WHERE m.id = distribution_records.id)
+WHERE id IN (SELECT id FROM distribution_records_merge);
+DROP TABLE distribution_records_merge;
+
+CREATE TABLE well_inventory_merge (
+    id BIGINT NOT NULL PRIMARY KEY,
+    opening_stock DECIMAL(10,2) NOT NULL,
+    received_from_distribution DECIMAL(10,2) NOT NULL,
+    closing_stock DECIMAL(10,2) NOT NULL,
+    consumed DECIMAL(10,2) NOT NULL,
+    remarks VARCHAR(200)
+);
+INSERT INTO well_inventory_merge (id, opening_stock, received_from_distribution, closing_stock, consumed, remarks)
+SELECT MAX(w.id), SUM(w.opening_stock), SUM(w.received_from_distribution), SUM(w.closing_stock), SUM(w.consumed),
+       SUBSTRING(GROUP_CONCAT(w.remarks ORDER BY w.id SEPARATOR '; '), 1, 200)
+FROM well_inventory w
+JOIN inventory_sessions i ON i.session_id = w.session_id
+WHERE i.status = 'COMPLETED'
+GROUP BY w.session_id, w.product_id, w.well_name
+HAVING COUNT(*) > 1;
+UPDATE well_inventory SET
+    opening_stock = (SELECT m.opening_stock FROM well_inventory_merge m WHERE m.id = well_inventory.id),
+    received_from_distribution = (SELECT m.received_from_distribution FROM well_inventory_merge m
+                                  WHERE m.id = well_inventory.id),
+    closing_stock = (SELECT m.closing_stock FROM well_inventory_merge m WHERE m.id = well_inventory.id),
+    consumed = (SELECT m.consumed FROM well_inventory_merge m WHERE m.id = well_inventory.id),
+    remarks = (SELECT m.remarks FROM well_inventory_merge m WHERE m.id = well_inventory.id)
+WHERE id IN (SELECT id FROM well_inventory_merge);
+DROP TABLE well_inventory_merge;
+
+-- Every duplicate group now keeps its latest row: merged for completed
+-- sessions, the last resubmission for sessions still open or rolled back
+DELETE FROM stockroom_inventory WHERE id NOT IN
+    (SELECT id FROM (SELECT MAX(id) AS id FROM stockroom_inventory
+                     GROUP BY session_id, product_id) latest);
+DELETE FROM distribution_records WHERE id NOT IN
+    (SELECT id FROM (SELECT MAX(id) AS id FROM distribution_records
+                     GROUP BY session_id, product_id) latest);
+DELETE FROM well_inventory WHERE id NOT IN
+    (SELECT id FROM (SELECT MAX(id) AS id FROM well_inventory
+                     GROUP BY session_id, product_id, well_name) latest);
+
+-- The unique keys cover the V2 lookup indexes, which are dropped once replaced
+ALTER TABLE stockroom_inventory ADD CONSTRAINT uk_stockroom_session_product UNIQUE (session_id, product_id);
+ALTER TABLE distribution_records ADD CONSTRAINT uk_distribution_session_product UNIQUE (session_id, product_id);
+ALTER TABLE well_inventory ADD CONSTRAINT uk_well_session_product_well UNIQUE (session_id, product_id, well_name);
+
+DROP INDEX idx_stockroom_session_product ON stockroom_inventory;
+DROP INDEX idx_distribution_session_product ON distribution_records;
+DROP INDEX idx_well_session_product_well ON well_inventory;
@@ -0,0 +1,4 @@
+-- Client idempotency key of a one-call shift close (POST /api/sessions/close),
+-- stored on the session it completed so a retried request is answered from it
+ALTER TABLE inventory_sessions ADD COLUMN close_key VARCHAR(64) NULL;
+ALTER TABLE inventory_sessions ADD CONSTRAINT uk_sessions_close_key UNIQUE (close_key);
@@ -0,0 +1,79 @@
+-- Objects added after the ddl-auto=update build: the keyset index for bar
+-- session history, the daily sales rollup and the running reconciliation
+-- summary with its dirty product count. Databases from that build are
+-- baselined at V1, so these are created here and filled from existing rows.
+CREATE INDEX idx_sessions_bar_start ON inventory_sessions (bar_id, session_start_time, session_id);
+
+ALTER TABLE inventory_sessions ADD COLUMN dirty_products INTEGER NULL;
+
+CREATE TABLE daily_sales_rollup (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    bar_id BIGINT NOT NULL,
+    business_date DATE NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity_sold DECIMAL(14,2) NOT NULL,
+    total_revenue DECIMAL(14,2) NOT NULL,
+    total_cost DECIMAL(14,2) NOT NULL,
+    sales_count INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKt02a3hgau7c6otjg4h15r36pk UNIQUE (bar_id, business_date, product_id),
+    CONSTRAINT FK6u2n40hlqv17jt37wdabj6l2i FOREIGN KEY (bar_id) REFERENCES bars (bar_id),
+    CONSTRAINT FKt0b7c79lunxp24k5wpesf3sy5 FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE session_product_reconciliation (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    session_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    transferred DECIMAL(14,2),
+    distributed DECIMAL(14,2),
+    allocated DECIMAL(14,2),
+    unallocated DECIMAL(14,2),
+    wells_received DECIMAL(14,2) NOT NULL,
+    balanced BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKdfcw7lecgs4lmx0c1s8j38w8y UNIQUE (session_id, product_id),
+    CONSTRAINT FK3u1v3cas1ah9jw9bdtbm2uk7s FOREIGN KEY (session_id) REFERENCES inventory_sessions (session_id),
+    CONSTRAINT FK81piw0pfpuburmbobdb9tmb4j FOREIGN KEY (product_id) REFERENCES products (product_id)
+) ENGINE=InnoDB;
+
+-- Every committed sale, folded by bar, business date (stamped by V3) and product
+INSERT INTO daily_sales_rollup
+    (bar_id, business_date, product_id, quantity_sold, total_revenue, total_cost, sales_count)
+SELECT s.bar_id, s.business_date, s.product_id, SUM(s.quantity_sold), SUM(s.total_revenue),
+       COALESCE(SUM(s.total_cost), 0), COUNT(*)
+FROM sales_records s
+GROUP BY s.bar_id, s.business_date, s.product_id;
+
+-- Summary rows for sessions still open, with the balance rules of
+-- SessionProductReconciliationRepository.refreshSession
+INSERT INTO session_product_reconciliation
+    (session_id, product_id, transferred, distributed, allocated, unallocated, wells_received, balanced)
+SELECT p.session_id, p.product_id, s.transferred, d.distributed, d.allocated, d.unallocated,
+       COALESCE(w.received, 0),
+       CASE WHEN (s.transferred IS NOT NULL AND ((d.distributed IS NULL AND s.transferred > 0)
+                  OR (d.distributed IS NOT NULL AND s.transferred <> d.distributed)))
+                 OR (d.distributed IS NOT NULL AND (d.allocated <> COALESCE(w.received, 0) OR d.unallocated > 0))
+            THEN FALSE ELSE TRUE END
+FROM (SELECT x.session_id, x.product_id FROM stockroom_inventory x
+      JOIN inventory_sessions i ON i.session_id = x.session_id WHERE i.status = 'IN_PROGRESS'
+      UNION SELECT x.session_id, x.product_id FROM distribution_records x
+      JOIN inventory_sessions i ON i.session_id = x.session_id WHERE i.status = 'IN_PROGRESS'
+      UNION SELECT x.session_id, x.product_id FROM well_inventory x
+      JOIN inventory_sessions i ON i.session_id = x.session_id WHERE i.status = 'IN_PROGRESS') p
+LEFT JOIN (SELECT session_id, product_id, SUM(transferred_out) AS transferred FROM stockroom_inventory
+           GROUP BY session_id, product_id) s
+       ON s.session_id = p.session_id AND s.product_id = p.product_id
+LEFT JOIN (SELECT session_id, product_id, SUM(quantity_from_stockroom) AS distributed,
+                  SUM(total_allocated) AS allocated, SUM(unallocated) AS unallocated FROM distribution_records
+           GROUP BY session_id, product_id) d
+       ON d.session_id = p.session_id AND d.product_id = p.product_id
+LEFT JOIN (SELECT session_id, product_id, SUM(received_from_distribution) AS received FROM well_inventory
+           GROUP BY session_id, product_id) w
+       ON w.session_id = p.session_id AND w.product_id = p.product_id;
+
+-- Open sessions track their unbalanced products from here on; closed ones stay null
+UPDATE inventory_sessions SET dirty_products =
+    (SELECT COUNT(*) FROM session_product_reconciliation r
+     WHERE r.session_id = inventory_sessions.session_id AND r.balanced = FALSE)
+WHERE status = 'IN_PROGRESS';
@@ -0,0 +1,93 @@
+package com.barinventory.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.h2.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * A database created by the ddl-auto=update build is baselined at V1 and
+ * upgraded by the later migrations with its existing rows in place
+ */
+class BaselineMigrationTest {
+
+    private SimpleDriverDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void loadBaselineSchema() throws Exception {
+        dataSource = new SimpleDriverDataSource(new Driver(),
+                "jdbc:h2:mem:baseline_" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        try (var connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline/ddl_auto_update_schema.sql"));
+        }
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void upgradeBackfillsRollupAndOpenSessionSummary() {
+        jdbc.update("INSERT INTO bars (bar_id, bar_name, active) VALUES (1, 'Upgrade', TRUE)");
+        jdbc.update("INSERT INTO products (product_id, product_name, active) VALUES (1, 'Rum', TRUE), (2, 'Gin', TRUE)");
+
+        // Two committed sessions on the same day
+        jdbc.update("INSERT INTO inventory_sessions (session_id, bar_id, session_start_time, status) VALUES " +
+                "(1, 1, '2026-03-02 18:00:00', 'COMPLETED'), (2, 1, '2026-03-02 23:00:00', 'COMPLETED')");
+        jdbc.update("INSERT INTO sales_records (session_id, product_id, quantity_sold, selling_price_per_unit, " +
+                "total_revenue, total_cost) VALUES " +
+                "(1, 1, 2.00, 10.00, 20.00, 8.00), (1, 2, 1.00, 12.00, 12.00, NULL), " +
+                "(2, 1, 3.00, 10.00, 30.00, 12.00)");
+
+        // An open session where product 1 has stock left unallocated and product 2 balances
+        jdbc.update("INSERT INTO inventory_sessions (session_id, bar_id, session_start_time, status) VALUES " +
+                "(3, 1, '2026-03-03 18:00:00', 'IN_PROGRESS')");
+        jdbc.update("INSERT INTO stockroom_inventory (session_id, product_id, opening_stock, received_stock, " +
+                "closing_stock, transferred_out) VALUES (3, 1, 20.00, 0.00, 10.00, 10.00), " +
+                "(3, 2, 4.00, 0.00, 0.00, 4.00), (1, 1, 5.00, 0.00, 0.00, 5.00)");
+        jdbc.update("INSERT INTO distribution_records (session_id, product_id, quantity_from_stockroom, " +
+                "total_allocated, unallocated, status) VALUES (3, 1, 10.00, 8.00, 2.00, 'PENDING_ALLOCATION'), " +
+                "(3, 2, 4.00, 4.00, 0.00, 'ALLOCATED')");
+        jdbc.update("INSERT INTO well_inventory (session_id, product_id, well_name, opening_stock, " +
+                "received_from_distribution, closing_stock, consumed) VALUES " +
+                "(3, 1, 'BAR_1', 0.00, 8.00, 0.00, 8.00), (3, 2, 'BAR_1', 0.00, 4.00, 0.00, 4.00)");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        List<Map<String, Object>> rollup = jdbc.queryForList(
+                "SELECT business_date, product_id, quantity_sold, total_revenue, total_cost, sales_count " +
+                "FROM daily_sales_rollup WHERE bar_id = 1 ORDER BY product_id");
+        assertThat(rollup).hasSize(2);
+        assertThat(rollup.get(0).get("business_date").toString()).isEqualTo("2026-03-02");
+        assertThat((BigDecimal) rollup.get(0).get("quantity_sold")).isEqualByComparingTo("5.00");
+        assertThat((BigDecimal) rollup.get(0).get("total_revenue")).isEqualByComparingTo("50.00");
+        assertThat((BigDecimal) rollup.get(0).get("total_cost")).isEqualByComparingTo("20.00");
+        assertThat(rollup.get(0).get("sales_count")).isEqualTo(2);
+        assertThat((BigDecimal) rollup.get(1).get("total_cost")).isEqualByComparingTo("0.00");
+
+        List<Map<String, Object>> summary = jdbc.queryForList(
+                "SELECT session_id, product_id, balanced FROM session_product_reconciliation ORDER BY product_id");
+        assertThat(summary).extracting(row -> row.get("session_id")).containsOnly(3L);
+        assertThat(summary).extracting(row -> row.get("balanced")).containsExactly(false, true);
+
+        assertThat(jdbc.queryForObject("SELECT dirty_products FROM inventory_sessions WHERE session_id = 3",
+                Integer.class)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT dirty_products FROM inventory_sessions WHERE session_id = 1",
+                Integer.class)).isNull();
+    }
+}
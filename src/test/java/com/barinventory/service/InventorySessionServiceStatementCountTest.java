@@ -0,0 +1,58 @@
+package com.barinventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.barinventory.entity.Bar;
+import com.barinventory.entity.Product;
+
+/**
+ * Statements per pipeline stage must not grow with the number of products.
+ * JdbcTemplate batch upserts show up only in the DataSource count.
+ */
+class InventorySessionServiceStatementCountTest extends StatementCountTestSupport {
+
+    @Autowired
+    private InventorySessionService sessionService;
+
+    @Test
+    void pipelineStagesIssueAFixedNumberOfStatements() {
+        Map<String, Statements> small = runPipeline(3);
+        Map<String, Statements> large = runPipeline(30);
+
+        assertThat(small).containsExactly(
+            entry("initializeSession", new Statements(3, 3)),
+            entry("saveStockroomInventory", new Statements(3, 4)),
+            entry("createDistributionRecords", new Statements(4, 4)),
+            entry("getSnapshot", new Statements(5, 5)),
+            entry("saveWellInventory", new Statements(6, 7)),
+            entry("commitSession", new Statements(6, 7)));
+        assertThat(large).isEqualTo(small);
+    }
+
+    private Map<String, Statements> runPipeline(int productCount) {
+        Bar bar = newBar();
+        List<Product> products = newPricedProducts(bar, productCount);
+        Map<String, Statements> byStage = new LinkedHashMap<>();
+        Long[] sessionId = new Long[1];
+
+        byStage.put("initializeSession", statementsDuring(() -> sessionId[0] = sessionService
+            .initializeSession(bar.getBarId(), "NIGHT", "statement count", false).getSessionId()));
+        byStage.put("saveStockroomInventory", statementsDuring(() ->
+            sessionService.saveStockroomInventory(sessionId[0], stockroomRows(products))));
+        byStage.put("createDistributionRecords", statementsDuring(() ->
+            sessionService.createDistributionRecords(sessionId[0])));
+        byStage.put("getSnapshot", statementsDuring(() -> sessionService.getSnapshot(sessionId[0])));
+        byStage.put("saveWellInventory", statementsDuring(() ->
+            sessionService.saveWellInventory(sessionId[0], wellRows(products))));
+        byStage.put("commitSession", statementsDuring(() -> sessionService.commitSession(sessionId[0])));
+        return byStage;
+    }
+}
@@ -0,0 +1,58 @@
+package com.barinventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.barinventory.entity.Bar;
+import com.barinventory.entity.BarProductPrice;
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.Product;
+
+/**
+ * A bar's prices load in one projection query and are then served from the
+ * price cache until a write invalidates them
+ */
+class PricingServiceStatementCountTest extends StatementCountTestSupport {
+
+    @Autowired
+    private PricingService pricingService;
+
+    private Bar bar;
+    private List<Product> products;
+
+    @BeforeEach
+    void seedPrices() {
+        bar = newBar();
+        products = newPricedProducts(bar, 20);
+    }
+
+    @Test
+    void pricesLoadOnceThenComeFromTheCache() {
+        assertThat(statementsDuring(() -> pricingService.getPricesByBar(bar.getBarId())))
+            .isEqualTo(new Statements(1, 1));
+        assertThat(statementsDuring(() -> pricingService.getPricesByBar(bar.getBarId())))
+            .isEqualTo(new Statements(0, 0));
+        assertThat(statementsDuring(() -> pricingService.getPrice(bar.getBarId(), products.get(0).getProductId())))
+            .isEqualTo(new Statements(0, 0));
+    }
+
+    @Test
+    void setPriceInvalidatesTheBarsPrices() {
+        pricingService.getPricesByBar(bar.getBarId());
+        BarProductPrice update = BarProductPrice.builder()
+            .sellingPrice(FixedDecimal.of(300))
+            .costPrice(FixedDecimal.of(140))
+            .build();
+
+        assertThat(statementsDuring(() ->
+                pricingService.setPrice(bar.getBarId(), products.get(0).getProductId(), update)))
+            .isEqualTo(new Statements(4, 4));
+        assertThat(statementsDuring(() -> pricingService.getPricesByBar(bar.getBarId())))
+            .isEqualTo(new Statements(1, 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.barinventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.barinventory.entity.Bar;
+import com.barinventory.entity.Product;
+
+/**
+ * Each report reads one committed session of twenty products in a fixed number
+ * of statements, however many sales lines it covers
+ */
+class ReportServiceStatementCountTest extends StatementCountTestSupport {
+
+    @Autowired
+    private InventorySessionService sessionService;
+
+    @Autowired
+    private ReportService reportService;
+
+    private Long barId;
+    private Long sessionId;
+    private LocalDateTime businessDay;
+
+    @BeforeEach
+    void commitOneSession() {
+        Bar bar = newBar();
+        List<Product> products = newPricedProducts(bar, 20);
+        barId = bar.getBarId();
+        sessionId = sessionService.initializeSession(barId, "NIGHT", "reports", false).getSessionId();
+        sessionService.saveStockroomInventory(sessionId, stockroomRows(products));
+        sessionService.createDistributionRecords(sessionId);
+        sessionService.saveWellInventory(sessionId, wellRows(products));
+        sessionService.commitSession(sessionId);
+        businessDay = LocalDate.now().atStartOfDay();
+    }
+
+    @Test
+    void sessionTotalIsOneAggregate() {
+        assertThat(statementsDuring(() -> reportService.getSessionTotalSales(sessionId)))
+            .isEqualTo(new Statements(1, 1));
+    }
+
+    @Test
+    void dailyReportFetchesSalesWithProductsInOneQuery() {
+        assertThat(statementsDuring(() -> reportService.getDailySalesReport(barId, businessDay)))
+            .isEqualTo(new Statements(1, 1));
+    }
+
+    @Test
+    void weeklyAndMonthlyReportsReadTheRollup() {
+        assertThat(statementsDuring(() -> reportService.getWeeklySalesReport(barId, businessDay)))
+            .isEqualTo(new Statements(1, 1));
+        assertThat(statementsDuring(() -> reportService.getMonthlySalesReport(
+                barId, businessDay.getYear(), businessDay.getMonthValue())))
+            .isEqualTo(new Statements(2, 2));
+    }
+
+    @Test
+    void productSummaryIsOneGroupedQuery() {
+        assertThat(statementsDuring(() -> reportService.getProductWiseSummary(
+                barId, businessDay, businessDay.plusDays(1))))
+            .isEqualTo(new Statements(1, 1));
+    }
+}
@@ -0,0 +1,63 @@
+package com.barinventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.barinventory.entity.Bar;
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.Product;
+import com.barinventory.entity.SessionProductReconciliation;
+import com.barinventory.entity.WellInventory;
+import com.barinventory.enums.SessionStatus;
+import com.barinventory.repository.InventorySessionRepository;
+
+/**
+ * The running summary follows each save product by product, and commit
+ * validates against the stored dirty count
+ */
+class SessionReconciliationServiceTest extends StatementCountTestSupport {
+
+    @Autowired
+    private InventorySessionService sessionService;
+
+    @Autowired
+    private SessionReconciliationService reconciliationService;
+
+    @Autowired
+    private InventorySessionRepository sessionRepository;
+
+    @Test
+    void resubmittedWellUnbalancesOnlyItsProductAndBlocksCommit() {
+        Bar bar = newBar();
+        List<Product> products = newPricedProducts(bar, 3);
+        Long sessionId = sessionService.initializeSession(bar.getBarId(), "NIGHT", "summary", false).getSessionId();
+        sessionService.saveStockroomInventory(sessionId, stockroomRows(products));
+        sessionService.createDistributionRecords(sessionId);
+        sessionService.saveWellInventory(sessionId, wellRows(products));
+        assertThat(sessionRepository.findDirtyProductsById(sessionId)).isZero();
+
+        // Hand 30 of the first product's 60 units back to distribution
+        WellInventory shortWell = wellRows(products.subList(0, 1)).get(0);
+        shortWell.setReceivedFromDistribution(FixedDecimal.of(30));
+        shortWell.setClosingStock(FixedDecimal.of(25));
+        sessionService.saveWellInventory(sessionId, List.of(shortWell));
+
+        assertThat(sessionRepository.findDirtyProductsById(sessionId)).isEqualTo(1);
+        assertThat(reconciliationService.getProductSummary(sessionId, true))
+            .extracting(line -> line.getProduct().getProductId())
+            .containsExactly(products.get(0).getProductId());
+        assertThat(reconciliationService.getProductSummary(sessionId, false))
+            .filteredOn(SessionProductReconciliation::isBalanced)
+            .hasSize(2);
+
+        assertThatThrownBy(() -> sessionService.commitSession(sessionId))
+            .hasMessageStartingWith("Validation failed");
+        assertThat(sessionRepository.findById(sessionId).orElseThrow().getStatus())
+            .isNotEqualTo(SessionStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,149 @@
+package com.barinventory.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.barinventory.entity.Bar;
+import com.barinventory.entity.BarProductPrice;
+import com.barinventory.entity.FixedDecimal;
+import com.barinventory.entity.Product;
+import com.barinventory.entity.StockroomInventory;
+import com.barinventory.entity.WellInventory;
+import com.barinventory.metrics.QueryCountScope;
+import com.barinventory.metrics.StatementCounter;
+import com.barinventory.repository.BarProductPriceRepository;
+import com.barinventory.repository.BarRepository;
+import com.barinventory.repository.ProductRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Boots the application against embedded H2 and measures the statements a
+ * single service call issues, both as Hibernate prepares them and as they
+ * reach the DataSource (which also sees JdbcTemplate batches).
+ *
+ * Every seeded product moves the same quantities through the pipeline so
+ * sessions always reconcile and commit.
+ */
+@SpringBootTest(properties = "spring.devtools.restart.enabled=false")
+@ActiveProfiles("test")
+abstract class StatementCountTestSupport {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    protected BarRepository barRepository;
+
+    @Autowired
+    protected ProductRepository productRepository;
+
+    @Autowired
+    protected BarProductPriceRepository priceRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Statements issued by one call, counted by Hibernate and at the DataSource
+     */
+    protected record Statements(long prepared, long jdbc) {
+    }
+
+    protected Statements statementsDuring(Runnable call) {
+        statistics.clear();
+        QueryCountScope scope = statementCounter.open();
+        try {
+            call.run();
+        } finally {
+            statementCounter.close(scope);
+        }
+        return new Statements(statistics.getPrepareStatementCount(), scope.getStatements());
+    }
+
+    protected Bar newBar() {
+        return barRepository.save(Bar.builder()
+            .barName("Test Bar " + System.nanoTime())
+            .location("H2")
+            .active(true)
+            .build());
+    }
+
+    protected List<Product> newPricedProducts(Bar bar, int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                .productName("Product " + i + " " + System.nanoTime())
+                .category("Whisky")
+                .brand("Brand " + (i % 5))
+                .volumeML(new BigDecimal("750"))
+                .unit("BOTTLE")
+                .active(true)
+                .build());
+        }
+        products = productRepository.saveAll(products);
+
+        List<BarProductPrice> prices = new ArrayList<>(count);
+        for (Product product : products) {
+            prices.add(BarProductPrice.builder()
+                .bar(bar)
+                .product(product)
+                .sellingPrice(FixedDecimal.of(250))
+                .costPrice(FixedDecimal.of(120))
+                .active(true)
+                .build());
+        }
+        priceRepository.saveAll(prices);
+        return products;
+    }
+
+    protected static List<StockroomInventory> stockroomRows(List<Product> products) {
+        List<StockroomInventory> rows = new ArrayList<>(products.size());
+        for (Product product : products) {
+            rows.add(StockroomInventory.builder()
+                .product(productRef(product))
+                .openingStock(FixedDecimal.of(100))
+                .receivedStock(FixedDecimal.of(20))
+                .closingStock(FixedDecimal.of(60))
+                .build());
+        }
+        return rows;
+    }
+
+    /**
+     * One well per product receiving the 60 transferred units and selling 15
+     */
+    protected static List<WellInventory> wellRows(List<Product> products) {
+        List<WellInventory> rows = new ArrayList<>(products.size());
+        for (Product product : products) {
+            rows.add(WellInventory.builder()
+                .product(productRef(product))
+                .wellName("BAR_1")
+                .openingStock(FixedDecimal.of(10))
+                .receivedFromDistribution(FixedDecimal.of(60))
+                .closingStock(FixedDecimal.of(55))
+                .build());
+        }
+        return rows;
+    }
+
+    private static Product productRef(Product product) {
+        return Product.builder().productId(product.getProductId()).build();
+    }
+}
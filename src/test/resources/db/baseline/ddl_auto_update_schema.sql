@@ -0,0 +1,159 @@
+-- Schema of the last ddl-auto=update build, as Hibernate generated it from its entities.
+-- Upgrade tests load this and baseline it at V1 the way a deployed database is.
+
+    create table bar_product_prices (
+        active bit not null,
+        cost_price decimal(10,2),
+        selling_price decimal(10,2) not null,
+        bar_id bigint not null,
+        id bigint not null auto_increment,
+        product_id bigint not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table bars (
+        active bit not null,
+        bar_id bigint not null auto_increment,
+        contact_number varchar(20),
+        bar_name varchar(100) not null,
+        owner_name varchar(100),
+        location varchar(200),
+        primary key (bar_id)
+    ) engine=InnoDB;
+
+    create table distribution_records (
+        quantity_from_stockroom decimal(10,2) not null,
+        total_allocated decimal(10,2) not null,
+        unallocated decimal(10,2) not null,
+        id bigint not null auto_increment,
+        product_id bigint not null,
+        session_id bigint not null,
+        notes varchar(200),
+        status enum ('PENDING_ALLOCATION','ALLOCATED','COMPLETED') not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table inventory_sessions (
+        bar_id bigint not null,
+        session_end_time datetime(6),
+        session_id bigint not null auto_increment,
+        session_start_time datetime(6) not null,
+        shift_type varchar(20),
+        notes varchar(500),
+        validation_errors varchar(1000),
+        status enum ('IN_PROGRESS','COMPLETED','ROLLED_BACK') not null,
+        primary key (session_id)
+    ) engine=InnoDB;
+
+    create table products (
+        active bit not null,
+        volumeml decimal(10,2),
+        product_id bigint not null auto_increment,
+        unit varchar(20),
+        brand varchar(50),
+        category varchar(50),
+        product_name varchar(100) not null,
+        primary key (product_id)
+    ) engine=InnoDB;
+
+    create table sales_records (
+        cost_price_per_unit decimal(10,2),
+        profit decimal(10,2),
+        quantity_sold decimal(10,2) not null,
+        selling_price_per_unit decimal(10,2) not null,
+        total_cost decimal(10,2),
+        total_revenue decimal(10,2) not null,
+        id bigint not null auto_increment,
+        product_id bigint not null,
+        session_id bigint not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table stockroom_inventory (
+        closing_stock decimal(10,2) not null,
+        opening_stock decimal(10,2) not null,
+        received_stock decimal(10,2) not null,
+        transferred_out decimal(10,2) not null,
+        id bigint not null auto_increment,
+        product_id bigint not null,
+        session_id bigint,
+        remarks varchar(200),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table well_inventory (
+        closing_stock decimal(10,2) not null,
+        consumed decimal(10,2) not null,
+        opening_stock decimal(10,2) not null,
+        received_from_distribution decimal(10,2) not null,
+        id bigint not null auto_increment,
+        product_id bigint not null,
+        session_id bigint not null,
+        well_name varchar(50) not null,
+        remarks varchar(200),
+        primary key (id)
+    ) engine=InnoDB;
+
+    alter table bar_product_prices 
+       add constraint UKrf3xadvfoedqxrce4apshxjk5 unique (bar_id, product_id);
+
+    alter table bars 
+       add constraint UK_4wtl3uatiehfqgjejfype04r4 unique (bar_name);
+
+    alter table products 
+       add constraint UK_f55t6sm19p5lrihq24a6knota unique (product_name);
+
+    alter table bar_product_prices 
+       add constraint FK66un7d462jxtfy4155gikt4yn 
+       foreign key (bar_id) 
+       references bars (bar_id);
+
+    alter table bar_product_prices 
+       add constraint FKcvu68nr13r7j5mrv98mt0ok6m 
+       foreign key (product_id) 
+       references products (product_id);
+
+    alter table distribution_records 
+       add constraint FKd8qtmmdag3m8xvg6wbhlux1wu 
+       foreign key (product_id) 
+       references products (product_id);
+
+    alter table distribution_records 
+       add constraint FK71kmpnw1ay6d1feqnr3m66bq 
+       foreign key (session_id) 
+       references inventory_sessions (session_id);
+
+    alter table inventory_sessions 
+       add constraint FKawu4qgef9vr02jq321pe9x4p8 
+       foreign key (bar_id) 
+       references bars (bar_id);
+
+    alter table sales_records 
+       add constraint FKpkv8ya6tboal4j5bphgnubjlg 
+       foreign key (product_id) 
+       references products (product_id);
+
+    alter table sales_records 
+       add constraint FKc1cnuia486p7rqrrckqp8g6po 
+       foreign key (session_id) 
+       references inventory_sessions (session_id);
+
+    alter table stockroom_inventory 
+       add constraint FKecxrihjrgqqi45jeu7otx8nbu 
+       foreign key (product_id) 
+       references products (product_id);
+
+    alter table stockroom_inventory 
+       add constraint FK6mhd49msinoto6fq92qxll7qn 
+       foreign key (session_id) 
+       references inventory_sessions (session_id);
+
+    alter table well_inventory 
+       add constraint FKric1cif35b97egay6bssivhm4 
+       foreign key (product_id) 
+       references products (product_id);
+
+    alter table well_inventory 
+       add constraint FKtbe266i7xfah7u9i5xmhunalx 
+       foreign key (session_id) 
+       references inventory_sessions (session_id);